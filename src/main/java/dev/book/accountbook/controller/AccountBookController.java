@@ -157,4 +157,40 @@ public class AccountBookController implements AccountBookApi {
 
         return ResponseEntity.ok(tempList);
     }
+
+    @Override
+    @GetMapping("/spend/cursor")
+    public ResponseEntity<AccountBookSliceResponse<AccountBookSpendResponse>> getSpendSlice(@AuthenticationPrincipal CustomUserDetails userDetails, @RequestParam(required = false) String cursor) {
+        Long userId = userDetails.user().getId();
+        AccountBookSliceResponse<AccountBookSpendResponse> responses = accountBookService.getSpendSlice(userId, cursor);
+
+        return ResponseEntity.ok(responses);
+    }
+
+    @Override
+    @GetMapping("/income/cursor")
+    public ResponseEntity<AccountBookSliceResponse<AccountBookIncomeResponse>> getIncomeSlice(@AuthenticationPrincipal CustomUserDetails userDetails, @RequestParam(required = false) String cursor) {
+        Long userId = userDetails.user().getId();
+        AccountBookSliceResponse<AccountBookIncomeResponse> responses = accountBookService.getIncomeSlice(userId, cursor);
+
+        return ResponseEntity.ok(responses);
+    }
+
+    @Override
+    @GetMapping("/spend/category/cursor")
+    public ResponseEntity<AccountBookSliceResponse<AccountBookSpendResponse>> getCategorySpendSlice(@AuthenticationPrincipal CustomUserDetails userDetails, @RequestParam String category, @RequestParam(required = false) String cursor) {
+        Long userId = userDetails.user().getId();
+        AccountBookSliceResponse<AccountBookSpendResponse> responses = accountBookService.getCategorySpendSlice(category, userId, cursor);
+
+        return ResponseEntity.ok(responses);
+    }
+
+    @Override
+    @GetMapping("/all/cursor")
+    public ResponseEntity<AccountBookSliceResponse<AccountBookPeriodResponse>> getAccountBookPeriodSlice(@AuthenticationPrincipal CustomUserDetails userDetails, @RequestParam LocalDate startDate, @RequestParam LocalDate endDate, @RequestParam(required = false) String cursor) {
+        Long userId = userDetails.user().getId();
+        AccountBookSliceResponse<AccountBookPeriodResponse> responses = accountBookService.getAccountBookPeriodSlice(userId, startDate, endDate, cursor);
+
+        return ResponseEntity.ok(responses);
+    }
 }
@@ -598,4 +598,81 @@ public interface AccountBookApi {
             )
     )
     ResponseEntity<List<TempAccountBookResponse>> getTempAccountBook(@AuthenticationPrincipal CustomUserDetails userDetails);
+
+    @Operation(summary = "지출 목록 커서 조회", description = "발생일, ID 기준 커서로 지출 목록을 조회합니다. 첫 조회 시 cursor를 비워 주세요.")
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor", example = "MjAyNS0wNC0xN18xMjM")
+    @ApiResponse(
+            responseCode = "200",
+            description = "지출 목록 커서 조회 성공",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = AccountBookSliceResponse.class),
+                    examples = @ExampleObject(
+                            name = "지출 목록 커서 예시",
+                            value = """
+                    {
+                      "content": [
+                        {
+                          "id": 123,
+                          "title": "핫도그",
+                          "category": "식비",
+                          "amount": 2500,
+                          "updatedAt": "2025-04-17T23:59:59",
+                          "memo": "밤에 배고파서 먹은 야식",
+                          "endDate": null,
+                          "occurredAt": "2025-04-17",
+                          "repeat": null
+                        }
+                      ],
+                      "nextCursor": "MjAyNS0wNC0xN18xMjM",
+                      "hasNext": true
+                    }
+                    """
+                    )
+            )
+    )
+    ResponseEntity<AccountBookSliceResponse<AccountBookSpendResponse>> getSpendSlice(@AuthenticationPrincipal CustomUserDetails userDetails, @RequestParam(required = false) String cursor);
+
+    @Operation(summary = "수입 목록 커서 조회", description = "발생일, ID 기준 커서로 수입 목록을 조회합니다. 첫 조회 시 cursor를 비워 주세요.")
+    @Parameter(name = "cursor", description = "이전 응답의 nextCursor", example = "MjAyNS0wNC0xN18xMjM")
+    @ApiResponse(
+            responseCode = "200",
+            description = "수입 목록 커서 조회 성공",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = AccountBookSliceResponse.class)
+            )
+    )
+    ResponseEntity<AccountBookSliceResponse<AccountBookIncomeResponse>> getIncomeSlice(@AuthenticationPrincipal CustomUserDetails userDetails, @RequestParam(required = false) String cursor);
+
+    @Operation(summary = "카테고리별 지출 목록 커서 조회", description = "카테고리 이름과 커서로 지출 목록을 조회합니다. 첫 조회 시 cursor를 비워 주세요.")
+    @Parameters({
+            @Parameter(name = "category", description = "카테고리 이름", example = "food"),
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor", example = "MjAyNS0wNC0xN18xMjM")
+    })
+    @ApiResponse(
+            responseCode = "200",
+            description = "카테고리 기준 지출 목록 커서 조회 성공",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = AccountBookSliceResponse.class)
+            )
+    )
+    ResponseEntity<AccountBookSliceResponse<AccountBookSpendResponse>> getCategorySpendSlice(@AuthenticationPrincipal CustomUserDetails userDetails, @RequestParam String category, @RequestParam(required = false) String cursor);
+
+    @Operation(summary = "기간별 가계부 커서 조회", description = "지정 기간의 수입 및 지출 내역을 커서로 조회합니다. 첫 조회 시 cursor를 비워 주세요.")
+    @Parameters({
+            @Parameter(name = "startDate", description = "조회 시작일", example = "2025-04-01"),
+            @Parameter(name = "endDate", description = "조회 종료일", example = "2025-04-30"),
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor", example = "MjAyNS0wNC0xN18xMjM")
+    })
+    @ApiResponse(
+            responseCode = "200",
+            description = "기간별 가계부 커서 조회 성공",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = AccountBookSliceResponse.class)
+            )
+    )
+    ResponseEntity<AccountBookSliceResponse<AccountBookPeriodResponse>> getAccountBookPeriodSlice(@AuthenticationPrincipal CustomUserDetails userDetails, @RequestParam LocalDate startDate, @RequestParam LocalDate endDate, @RequestParam(required = false) String cursor);
 }
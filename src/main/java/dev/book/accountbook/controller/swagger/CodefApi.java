@@ -1,7 +1,6 @@
 package dev.book.accountbook.controller.swagger;
 
 import dev.book.accountbook.dto.request.CreateConnectedIdRequest;
-import dev.book.accountbook.dto.response.TempAccountBookResponse;
 import dev.book.global.config.security.dto.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,8 +9,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.RequestBody;
 
-import java.util.List;
-
 @Tag(name = "Codef API", description = "connectedId 생성, 거래 내역 조회")
 public interface CodefApi {
     @Operation(
@@ -36,5 +33,5 @@ public interface CodefApi {
             description = "이 API는 내부 테스트용입니다. 호출하지 마세요."
     )
     @ApiResponse(description = "호출 금지")
-    ResponseEntity<List<TempAccountBookResponse>> trans(@AuthenticationPrincipal CustomUserDetails userDetails);
+    ResponseEntity<Integer> trans(@AuthenticationPrincipal CustomUserDetails userDetails);
 }
@@ -0,0 +1,41 @@
+package dev.book.accountbook.dto.request;
+
+import dev.book.accountbook.entity.AccountBook;
+import dev.book.accountbook.exception.accountbook.AccountBookErrorCode;
+import dev.book.accountbook.exception.accountbook.AccountBookErrorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+public record AccountBookCursor(LocalDate occurredAt, Long id) {
+    // 첫 페이지 조회 시 모든 행보다 뒤에 위치하는 기준점
+    private static final AccountBookCursor FIRST = new AccountBookCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+    private static final String DELIMITER = "_";
+
+    public static AccountBookCursor from(AccountBook entity) {
+        return new AccountBookCursor(entity.getOccurredAt(), entity.getId());
+    }
+
+    public static AccountBookCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+
+            return new AccountBookCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new AccountBookErrorException(AccountBookErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = occurredAt + DELIMITER + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,8 @@
+package dev.book.accountbook.dto.response;
+
+import dev.book.accountbook.type.CategoryType;
+
+import java.time.LocalDate;
+
+public record AccountBookDailyTotalResponse(LocalDate occurredAt, CategoryType type, Long total) {
+}
@@ -0,0 +1,6 @@
+package dev.book.accountbook.dto.response;
+
+import java.util.List;
+
+public record AccountBookSliceResponse<T>(List<T> content, String nextCursor, boolean hasNext) {
+}
@@ -8,8 +8,12 @@ import java.time.LocalDate;
 public record TempAccountBookResponse(Long id, String title, String memo, int amount,
                                       CategoryType type, LocalDate occurredAt, Long userId) {
     public static TempAccountBookResponse from(TempAccountBook entity) {
+        return of(entity.getId(), entity);
+    }
+
+    public static TempAccountBookResponse of(Long id, TempAccountBook entity) {
         return new TempAccountBookResponse(
-                entity.getId(),
+                id,
                 entity.getTitle(),
                 entity.getMemo(),
                 entity.getAmount(),
@@ -18,6 +18,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_account_book_user_occurred_at", columnList = "user_id, occurred_at, id"))
 public class AccountBook extends BaseTimeEntity {
 
     @Id
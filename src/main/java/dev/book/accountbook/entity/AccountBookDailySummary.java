@@ -0,0 +1,41 @@
+package dev.book.accountbook.entity;
+
+import dev.book.accountbook.type.CategoryType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "account_book_daily_summary",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_daily_summary_user_date_category_type",
+                columnNames = {"user_id", "occurred_at", "category_id", "type"}
+        )
+)
+public class AccountBookDailySummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDate occurredAt;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private CategoryType type;
+
+    @Column(name = "total_amount", nullable = false)
+    private long totalAmount;
+}
@@ -25,6 +25,9 @@ public class Budget extends BaseTimeEntity {
     @JoinColumn(name = "user_id")
     private UserEntity user;
     private int limitCount;
+    // 지출 등록/수정/삭제 시 단일 UPDATE 문으로만 증감하므로 엔티티 변경 감지로는 덮어쓰지 않음
+    @Column(name = "spent_amount", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long spentAmount;
 
     @OneToMany(mappedBy = "budget", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<BudgetAccountBook> budgetAccountBookList = new ArrayList<>();
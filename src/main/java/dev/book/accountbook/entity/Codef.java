@@ -6,6 +6,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -19,6 +21,10 @@ public class Codef {
     private String bankCode;
     private String account;
     private String connectedId;
+    // 마지막으로 거래 내역을 동기화한 날짜, 다음 동기화는 이 날짜부터 요청
+    // 컬럼 추가 시점의 기존 계좌는 오늘 날짜로 채워 90일 전체를 다시 받지 않도록 함
+    @Column(columnDefinition = "DATE DEFAULT (CURRENT_DATE)")
+    private LocalDate lastSyncedDate;
 
     public Codef(UserEntity user, String bankCode, String account, String connectedId) {
         this.user = user;
@@ -26,4 +32,8 @@ public class Codef {
         this.account = account;
         this.connectedId = connectedId;
     }
+
+    public void modifyLastSyncedDate(LocalDate lastSyncedDate) {
+        this.lastSyncedDate = lastSyncedDate;
+    }
 }
@@ -15,6 +15,7 @@ import java.time.LocalDate;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_temp_account_book_user_fingerprint", columnNames = {"user_id", "fingerprint"}))
 public class TempAccountBook extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,16 +30,24 @@ public class TempAccountBook extends BaseTimeEntity {
 
     private LocalDate occurredAt;
 
+    // 거래 일시, 금액, 적요로 만든 해시. 같은 거래가 여러 번 수집되어도 한 건만 저장
+    @Column(length = 64)
+    private String fingerprint;
+
+    // 가계부로 옮겨진 내역. 겹치는 구간을 다시 동기화할 때 중복 판단에 쓰이도록 바로 지우지 않음
+    private boolean imported;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private UserEntity user;
 
-    public TempAccountBook(String title, String memo, int amount, CategoryType type, UserEntity user, LocalDate occurredAt) {
+    public TempAccountBook(String title, String memo, int amount, CategoryType type, UserEntity user, LocalDate occurredAt, String fingerprint) {
         this.title = title;
         this.memo = memo;
         this.amount = amount;
         this.type = type;
         this.user = user;
         this.occurredAt = occurredAt;
+        this.fingerprint = fingerprint;
     }
 }
@@ -10,6 +10,7 @@ import org.springframework.http.HttpStatus;
 public enum CodefErrorCode implements ErrorCode {
     INVALID_LOGIN_INFO(HttpStatus.BAD_REQUEST, "로그인 정보가 옳바르지 않습니다."),
     PASSWORD_ERROR_COUNT_EXCEEDED(HttpStatus.BAD_REQUEST, "비밀번호 오류 횟수를 초과했습니다."),
+    TOKEN_ISSUE_FAILED(HttpStatus.BAD_GATEWAY, "Codef 토큰 발급에 실패했습니다."),
     UNKNOWN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "알 수 없는 오류가 발생했습니다.");
 
     private final HttpStatus status;
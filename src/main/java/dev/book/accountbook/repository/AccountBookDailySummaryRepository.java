@@ -0,0 +1,105 @@
+package dev.book.accountbook.repository;
+
+import dev.book.accountbook.dto.response.AccountBookDailyTotalResponse;
+import dev.book.accountbook.dto.response.AccountBookStatResponse;
+import dev.book.accountbook.entity.AccountBookDailySummary;
+import dev.book.accountbook.type.CategoryType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AccountBookDailySummaryRepository extends JpaRepository<AccountBookDailySummary, Long> {
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO account_book_daily_summary (user_id, occurred_at, category_id, type, total_amount)
+                VALUES (:userId, :occurredAt, :categoryId, :type, :amount)
+                ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount)
+            """, nativeQuery = true)
+    void upsertAmount(
+            @Param("userId") Long userId,
+            @Param("occurredAt") LocalDate occurredAt,
+            @Param("categoryId") Long categoryId,
+            @Param("type") String type,
+            @Param("amount") long amount
+    );
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO account_book_daily_summary (user_id, occurred_at, category_id, type, total_amount)
+                SELECT ab.user_id, ab.occurred_at, ab.category_id, ab.type, SUM(ab.amount)
+                FROM account_book ab
+                WHERE ab.user_id = :userId
+                  AND ab.occurred_at IS NOT NULL
+                GROUP BY ab.user_id, ab.occurred_at, ab.category_id, ab.type
+                ON DUPLICATE KEY UPDATE total_amount = VALUES(total_amount)
+            """, nativeQuery = true)
+    void rebuildByUserId(@Param("userId") Long userId);
+
+    // 가계부 내역은 있지만 일별 집계가 하나도 없는 사용자, 집계 도입 전에 작성된 내역의 백필 대상
+    @Query(value = """
+                SELECT DISTINCT ab.user_id
+                FROM account_book ab
+                WHERE ab.occurred_at IS NOT NULL
+                  AND NOT EXISTS (SELECT 1 FROM account_book_daily_summary s WHERE s.user_id = ab.user_id)
+            """, nativeQuery = true)
+    List<Long> findUserIdsWithoutSummary();
+
+    @Query(value = "SELECT DISTINCT ab.user_id FROM account_book ab WHERE ab.occurred_at IS NOT NULL", nativeQuery = true)
+    List<Long> findUserIdsWithAccountBook();
+
+    @Modifying
+    @Query("DELETE FROM AccountBookDailySummary s WHERE s.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+
+    @Query("""
+                SELECT new dev.book.accountbook.dto.response.AccountBookStatResponse(c.korean, SUM(s.totalAmount))
+                FROM AccountBookDailySummary s
+                    JOIN Category c ON c.id = s.categoryId
+                    WHERE s.userId = :userId
+                      AND s.occurredAt BETWEEN :startDate AND :endDate
+                      AND s.type = :categoryType
+                    GROUP BY c.korean
+                    HAVING SUM(s.totalAmount) > 0
+                    ORDER BY SUM(s.totalAmount) DESC
+            """)
+    List<AccountBookStatResponse> findTopCategoriesByUserAndPeriod(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("categoryType") CategoryType categoryType
+    );
+
+    @Query("""
+                SELECT COALESCE(SUM(s.totalAmount), 0)
+                FROM AccountBookDailySummary s
+                WHERE s.userId = :userId
+                  AND s.type = :categoryType
+                  AND s.occurredAt BETWEEN :startDate AND :endDate
+            """)
+    Long sumAmount(
+            @Param("userId") Long userId,
+            @Param("categoryType") CategoryType categoryType,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("""
+                SELECT new dev.book.accountbook.dto.response.AccountBookDailyTotalResponse(s.occurredAt, s.type, SUM(s.totalAmount))
+                FROM AccountBookDailySummary s
+                WHERE s.userId = :userId
+                  AND s.occurredAt BETWEEN :startDate AND :endDate
+                GROUP BY s.occurredAt, s.type
+            """)
+    List<AccountBookDailyTotalResponse> findDailyTotals(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+}
@@ -1,10 +1,11 @@
 package dev.book.accountbook.repository;
 
-import dev.book.accountbook.dto.response.AccountBookStatResponse;
 import dev.book.accountbook.dto.response.AccountBookWeekConsumePerUserResponse;
 import dev.book.accountbook.entity.AccountBook;
+import dev.book.accountbook.repository.jdbc.AccountBookJdbcRepository;
 import dev.book.accountbook.type.CategoryType;
-import dev.book.challenge.rank.dto.response.RankResponse;
+import dev.book.challenge.rank.dto.response.UserSpendResponse;
+import dev.book.challenge.rank.dto.response.UserSpendTotalResponse;
 import dev.book.global.entity.Category;
 import dev.book.user.entity.UserEntity;
 import org.springframework.data.domain.Page;
@@ -20,7 +21,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AccountBookRepository extends JpaRepository<AccountBook, Long> {
+public interface AccountBookRepository extends JpaRepository<AccountBook, Long>, AccountBookJdbcRepository {
     Optional<AccountBook> findByIdAndUserId(Long id, Long userId);
 
     @EntityGraph(attributePaths = {"category"})
@@ -53,21 +54,56 @@ public interface AccountBookRepository extends JpaRepository<AccountBook, Long>
             Pageable pageable
     );
 
+    @EntityGraph(attributePaths = {"category"})
     @Query("""
-                SELECT new dev.book.accountbook.dto.response.AccountBookStatResponse(c.korean, SUM(ab.amount))
-                FROM AccountBook ab
-                    JOIN ab.category c
-                    WHERE ab.user.id = :userId
-                      AND ab.occurredAt BETWEEN :startDate AND :endDate
-                      AND ab.type = :categoryType
-                    GROUP BY c.korean
-                    ORDER BY SUM(ab.amount) DESC
+            SELECT a
+            FROM AccountBook a
+                WHERE a.user.id = :userId
+                    AND a.type = :categoryType
+                    AND (a.occurredAt < :cursorDate OR (a.occurredAt = :cursorDate AND a.id < :cursorId))
+                ORDER BY a.occurredAt DESC, a.id DESC
             """)
-    List<AccountBookStatResponse> findTopCategoriesByUserAndPeriod(
+    List<AccountBook> findSliceByType(
+            @Param("userId") Long userId,
+            @Param("categoryType") CategoryType categoryType,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = {"category"})
+    @Query("""
+            SELECT a
+            FROM AccountBook a
+                WHERE a.user.id = :userId
+                    AND a.occurredAt BETWEEN :startDate AND :endDate
+                    AND (a.occurredAt < :cursorDate OR (a.occurredAt = :cursorDate AND a.id < :cursorId))
+                ORDER BY a.occurredAt DESC, a.id DESC
+            """)
+    List<AccountBook> findSlicePeriod(
             @Param("userId") Long userId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
-            @Param("categoryType") CategoryType categoryType
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = {"category"})
+    @Query("""
+            SELECT a
+            FROM AccountBook a
+                WHERE a.user.id = :userId
+                    AND a.category.id = :categoryId
+                    AND (a.occurredAt < :cursorDate OR (a.occurredAt = :cursorDate AND a.id < :cursorId))
+                ORDER BY a.occurredAt DESC, a.id DESC
+            """)
+    List<AccountBook> findSliceByCategory(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
     );
 
     @Query("""
@@ -89,20 +125,6 @@ public interface AccountBookRepository extends JpaRepository<AccountBook, Long>
             Pageable pageable
     );
 
-    @Query("""
-                SELECT COALESCE(SUM(a.amount), 0)
-                FROM AccountBook a
-                WHERE a.user.id = :userId
-                  AND a.type = :categoryType
-                  AND a.occurredAt BETWEEN :startDate AND :endDate
-            """)
-    Integer sumSpending(
-            @Param("userId") Long userId,
-            @Param("categoryType") CategoryType categoryType,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
-    );
-
     @EntityGraph(attributePaths = {"category"})
     @Query("""
                 SELECT DISTINCT ab
@@ -120,7 +142,8 @@ public interface AccountBookRepository extends JpaRepository<AccountBook, Long>
 
 
     @Query("""
-                SELECT new dev.book.challenge.rank.dto.response.RankResponse(
+                SELECT new dev.book.challenge.rank.dto.response.UserSpendTotalResponse(
+                    u.id,
                     u.name,
                     COALESCE(SUM(ab.amount), 0)
                 )
@@ -131,9 +154,26 @@ public interface AccountBookRepository extends JpaRepository<AccountBook, Long>
                     AND ab.category IN :categories
                 WHERE u.id IN :participantIds
                 GROUP BY u.id, u.name
-                ORDER BY COALESCE(SUM(ab.amount), 0) ASC
             """)
-    List<RankResponse> findByUserSpendingRanks(List<Long> participantIds, List<Category> categories, LocalDate startDate, LocalDate endDate);
+    List<UserSpendTotalResponse> findUserSpendingTotals(List<Long> participantIds, List<Category> categories, LocalDate startDate, LocalDate endDate);
+
+    // 순위 이벤트가 아직 전송되지 않은 지출, 키 형식은 OutboxRecorder 의 spend-ranking 키와 같음
+    @Query("""
+                SELECT new dev.book.challenge.rank.dto.response.UserSpendResponse(
+                    ab.user.id,
+                    ab.id,
+                    ab.amount
+                )
+                FROM OutboxEvent o
+                JOIN AccountBook ab ON o.idempotencyKey = CONCAT('spend-ranking:', CAST(ab.id AS String))
+                WHERE o.eventType = dev.book.global.outbox.type.OutboxEventType.SPEND_RANKING
+                    AND o.status = dev.book.global.outbox.type.OutboxStatus.PENDING
+                    AND ab.user.id IN :participantIds
+                    AND ab.type = 'SPEND'
+                    AND ab.occurredAt BETWEEN :startDate AND :endDate
+                    AND ab.category IN :categories
+            """)
+    List<UserSpendResponse> findUnrankedSpends(List<Long> participantIds, List<Category> categories, LocalDate startDate, LocalDate endDate);
 
     @Query("""
                 SELECT a
@@ -179,5 +219,7 @@ public interface AccountBookRepository extends JpaRepository<AccountBook, Long>
                                     @Param("endDate") LocalDate endDate
     );
 
+    List<AccountBook> findAllByIdInOrderByIdAsc(List<Long> ids);
+
     void deleteAllByUser(UserEntity user);
 }
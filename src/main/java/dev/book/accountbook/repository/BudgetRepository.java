@@ -5,6 +5,7 @@ import dev.book.accountbook.repository.querydsl.BudgetRepositoryCustom;
 import dev.book.user.entity.UserEntity;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -30,4 +31,38 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> , BudgetRe
 
     Optional<Budget> findByUserIdAndMonth(Long userId, int month);
     Optional<Budget> findByMonthAndUserId(Integer month, Long userId);
+
+    @Modifying
+    @Query(value = """
+                UPDATE budget SET spent_amount = spent_amount + :amount WHERE user_id = :userId AND month = :month
+            """, nativeQuery = true)
+    int addSpentAmount(@Param("userId") Long userId, @Param("month") int month, @Param("amount") long amount);
+
+    // 파생 데이터인 일별 집계가 아닌 가계부 내역에서 다시 계산해야 집계의 오차까지 바로잡을 수 있음
+    @Modifying
+    @Query(value = """
+                UPDATE budget b
+                SET b.spent_amount = (
+                    SELECT COALESCE(SUM(ab.amount), 0)
+                    FROM account_book ab
+                    WHERE ab.user_id = b.user_id
+                      AND ab.type = 'SPEND'
+                      AND MONTH(ab.occurred_at) = b.month
+                )
+                WHERE b.id = :id
+            """, nativeQuery = true)
+    int reconcileSpentAmount(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = """
+                UPDATE budget b
+                SET b.spent_amount = (
+                    SELECT COALESCE(SUM(ab.amount), 0)
+                    FROM account_book ab
+                    WHERE ab.user_id = b.user_id
+                      AND ab.type = 'SPEND'
+                      AND MONTH(ab.occurred_at) = b.month
+                )
+            """, nativeQuery = true)
+    int reconcileAllSpentAmount();
 }
@@ -11,6 +11,6 @@ import java.util.Optional;
 public interface CodefRepository extends JpaRepository<Codef, Long> {
     Optional<Codef> findByUser(UserEntity user);
 
-    @Query("SELECT c FROM Codef c JOIN c.user u WHERE FUNCTION('DATE', u.createdAt) < CURRENT_DATE")
+    @Query("SELECT c FROM Codef c JOIN FETCH c.user u WHERE FUNCTION('DATE', u.createdAt) < CURRENT_DATE")
     List<Codef> findAllCodefWithUserCreatedBeforeToday();
 }
@@ -1,12 +1,35 @@
 package dev.book.accountbook.repository;
 
 import dev.book.accountbook.entity.TempAccountBook;
+import dev.book.accountbook.repository.jdbc.TempAccountBookJdbcRepository;
 import dev.book.user.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
-public interface TempAccountBookRepository extends JpaRepository<TempAccountBook, Long> {
+public interface TempAccountBookRepository extends JpaRepository<TempAccountBook, Long>, TempAccountBookJdbcRepository {
     List<TempAccountBook> findAllByUserId(Long userId);
+    List<TempAccountBook> findAllByUserIdAndImportedFalse(Long userId);
     void deleteAllByUser(UserEntity user);
+
+    @Query("""
+                SELECT t.fingerprint
+                FROM TempAccountBook t
+                WHERE t.user.id = :userId
+                  AND t.occurredAt >= :startDate
+            """)
+    Set<String> findFingerprints(@Param("userId") Long userId, @Param("startDate") LocalDate startDate);
+
+    @Modifying
+    @Query("UPDATE TempAccountBook t SET t.imported = true WHERE t.user.id = :userId AND t.imported = false")
+    int markAllImported(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM TempAccountBook t WHERE t.user.id = :userId AND t.imported = true AND t.occurredAt < :before")
+    int deleteImportedBefore(@Param("userId") Long userId, @Param("before") LocalDate before);
 }
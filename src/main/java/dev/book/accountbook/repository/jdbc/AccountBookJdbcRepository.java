@@ -0,0 +1,10 @@
+package dev.book.accountbook.repository.jdbc;
+
+import dev.book.accountbook.entity.AccountBook;
+
+import java.util.List;
+
+public interface AccountBookJdbcRepository {
+    // 생성된 id 를 입력 순서대로 반환
+    List<Long> batchInsert(List<AccountBook> accountBooks);
+}
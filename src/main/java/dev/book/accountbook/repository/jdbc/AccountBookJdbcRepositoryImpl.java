@@ -0,0 +1,42 @@
+package dev.book.accountbook.repository.jdbc;
+
+import dev.book.accountbook.entity.AccountBook;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class AccountBookJdbcRepositoryImpl implements AccountBookJdbcRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO account_book
+                (title, type, amount, end_date, memo, user_id, occurred_at, frequency, month, day, category_id,
+                 created_at, created_by, updated_at, updated_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcBatchInserter batchInserter;
+
+    @Override
+    public List<Long> batchInsert(List<AccountBook> accountBooks) {
+        return batchInserter.insert(INSERT_SQL, accountBooks, (ps, accountBook, audit) -> {
+            ps.setString(1, accountBook.getTitle());
+            ps.setString(2, accountBook.getType() == null ? null : accountBook.getType().name());
+            ps.setInt(3, accountBook.getAmount());
+            ps.setTimestamp(4, accountBook.getEndDate() == null ? null : Timestamp.valueOf(accountBook.getEndDate()));
+            ps.setString(5, accountBook.getMemo());
+            ps.setLong(6, accountBook.getUser().getId());
+            ps.setDate(7, accountBook.getOccurredAt() == null ? null : Date.valueOf(accountBook.getOccurredAt()));
+            ps.setString(8, accountBook.getFrequency() == null ? null : accountBook.getFrequency().name());
+            ps.setObject(9, accountBook.getMonth(), Types.INTEGER);
+            ps.setObject(10, accountBook.getDay(), Types.INTEGER);
+            ps.setObject(11, accountBook.getCategory() == null ? null : accountBook.getCategory().getId(), Types.BIGINT);
+            ps.setTimestamp(12, audit.now());
+            ps.setString(13, audit.auditor());
+            ps.setTimestamp(14, audit.now());
+            ps.setString(15, audit.auditor());
+        });
+    }
+}
@@ -0,0 +1,126 @@
+package dev.book.accountbook.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IDENTITY 전략 엔티티는 Hibernate 가 INSERT 를 묶어 보내지 못하므로 JDBC 배치로 직접 저장한다.
+ * rewriteBatchedStatements=true 와 함께 사용하면 배치 하나가 multi-row INSERT 한 번으로 전송된다.
+ * JPA 감사(Auditing) 필드는 엔티티 리스너를 거치지 않으므로 여기서 채운다.
+ * INSERT IGNORE 처럼 일부 행이 저장되지 않을 수 있는 SQL 은 {@link #update} 로 실제 저장된 행 수를 받는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcBatchInserter {
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    public <T> List<Long> insert(String sql, List<T> rows, RowBinder<T> binder) {
+        if (rows.isEmpty()) {
+
+            return List.of();
+        }
+
+        Audit audit = currentAudit();
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> ids = new ArrayList<>(rows.size());
+
+            try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < rows.size(); i++) {
+                    binder.bind(ps, rows.get(i), audit);
+                    ps.addBatch();
+
+                    if ((i + 1) % BATCH_SIZE == 0 || i == rows.size() - 1) {
+                        ps.executeBatch();
+                        collectKeys(ps, ids);
+                    }
+                }
+            }
+
+            return ids;
+        });
+    }
+
+    // 배치별 영향받은 행 수의 합을 반환
+    public <T> int update(String sql, List<T> rows, RowBinder<T> binder) {
+        if (rows.isEmpty()) {
+
+            return 0;
+        }
+
+        Audit audit = currentAudit();
+
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            int affected = 0;
+
+            try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < rows.size(); i++) {
+                    binder.bind(ps, rows.get(i), audit);
+                    ps.addBatch();
+
+                    if ((i + 1) % BATCH_SIZE == 0 || i == rows.size() - 1) {
+                        affected += affectedRows(ps, ps.executeBatch());
+                    }
+                }
+            }
+
+            return affected;
+        });
+    }
+
+    // multi-row INSERT 로 재작성된 배치는 행별 결과가 SUCCESS_NO_INFO 로 오므로, 실제로 저장된 행에만 생성되는 키 개수로 셈
+    private int affectedRows(PreparedStatement ps, int[] counts) throws SQLException {
+        int affected = 0;
+
+        for (int count : counts) {
+            if (count == Statement.SUCCESS_NO_INFO) {
+                List<Long> keys = new ArrayList<>();
+                collectKeys(ps, keys);
+
+                return keys.size();
+            }
+
+            affected += count;
+        }
+
+        return affected;
+    }
+
+    private Audit currentAudit() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+
+        return new Audit(now, auditor);
+    }
+
+    private void collectKeys(PreparedStatement ps, List<Long> ids) throws SQLException {
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row, Audit audit) throws SQLException;
+    }
+
+    public record Audit(Timestamp now, String auditor) {
+    }
+}
@@ -0,0 +1,10 @@
+package dev.book.accountbook.repository.jdbc;
+
+import dev.book.accountbook.entity.TempAccountBook;
+
+import java.util.List;
+
+public interface TempAccountBookJdbcRepository {
+    // 같은 사용자에게 이미 있는 지문은 건너뛰고 새로 저장한 건수를 반환
+    int batchInsert(List<TempAccountBook> tempAccountBooks);
+}
@@ -0,0 +1,38 @@
+package dev.book.accountbook.repository.jdbc;
+
+import dev.book.accountbook.entity.TempAccountBook;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Date;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TempAccountBookJdbcRepositoryImpl implements TempAccountBookJdbcRepository {
+    // 동시에 진행된 동기화가 같은 거래를 먼저 저장했으면 (user_id, fingerprint) 유니크 키에 걸린 행만 건너뜀
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO temp_account_book
+                (title, memo, amount, type, occurred_at, fingerprint, imported, user_id,
+                 created_at, created_by, updated_at, updated_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcBatchInserter batchInserter;
+
+    @Override
+    public int batchInsert(List<TempAccountBook> tempAccountBooks) {
+        return batchInserter.update(INSERT_SQL, tempAccountBooks, (ps, accountBook, audit) -> {
+            ps.setString(1, accountBook.getTitle());
+            ps.setString(2, accountBook.getMemo());
+            ps.setInt(3, accountBook.getAmount());
+            ps.setString(4, accountBook.getType() == null ? null : accountBook.getType().name());
+            ps.setDate(5, accountBook.getOccurredAt() == null ? null : Date.valueOf(accountBook.getOccurredAt()));
+            ps.setString(6, accountBook.getFingerprint());
+            ps.setBoolean(7, accountBook.isImported());
+            ps.setLong(8, accountBook.getUser().getId());
+            ps.setTimestamp(9, audit.now());
+            ps.setString(10, audit.auditor());
+            ps.setTimestamp(11, audit.now());
+            ps.setString(12, audit.auditor());
+        });
+    }
+}
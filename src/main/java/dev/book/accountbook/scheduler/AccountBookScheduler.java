@@ -1,16 +1,15 @@
 package dev.book.accountbook.scheduler;
 
-import dev.book.accountbook.dto.event.CreateTransEvent;
 import dev.book.accountbook.dto.response.AccountBookWeekConsumePerUserResponse;
-import dev.book.accountbook.dto.response.TempAccountBookResponse;
 import dev.book.accountbook.entity.Budget;
 import dev.book.accountbook.entity.Codef;
 import dev.book.accountbook.repository.AccountBookRepository;
 import dev.book.accountbook.repository.BudgetRepository;
 import dev.book.accountbook.repository.CodefRepository;
 import dev.book.accountbook.repository.TempAccountBookRepository;
-import dev.book.accountbook.service.CodefService;
+import dev.book.accountbook.service.AccountBookSummaryService;
 import dev.book.accountbook.service.StatService;
+import dev.book.accountbook.sync.CodefSyncEngine;
 import dev.book.accountbook.type.Frequency;
 import dev.book.accountbook.type.PeriodRange;
 import dev.book.achievement.achievement_user.dto.event.SaveConsumeFromBudgetEvent;
@@ -35,7 +34,8 @@ public class AccountBookScheduler {
     private final AccountBookRepository accountBookRepository;
     private final TempAccountBookRepository tempAccountBookRepository;
 
-    private final CodefService codefService;
+    private final CodefSyncEngine codefSyncEngine;
+    private final AccountBookSummaryService accountBookSummaryService;
     private final StatService statService;
     private final IndividualAchievementStatusService individualAchievementStatusService;
     private final ApplicationEventPublisher eventPublisher;
@@ -76,17 +76,15 @@ public class AccountBookScheduler {
         }
     }
 
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul") //매일 예산 누적 지출을 가계부 내역 기준으로 보정
+    public void reconcileBudgetSpentAmount() {
+        accountBookSummaryService.reconcileAllBudgets();
+    }
+
     @Scheduled(cron = "0 0 21 * * *")
     public void synchronizeAccount() {
         List<Codef> codefList = codefRepository.findAllCodefWithUserCreatedBeforeToday();
-
-        for (Codef codef : codefList) {
-            List<TempAccountBookResponse> responseList = codefService.getTransactions(codef.getUser());
-
-            if (!responseList.isEmpty()) {
-                eventPublisher.publishEvent(new CreateTransEvent(codef.getUser()));
-            }
-        }
+        codefSyncEngine.synchronize(codefList);
     }
 
     @Scheduled(cron = "0 0 0 * * MON", zone = "Asia/Seoul") //매주 월요일마다 주의 소비내역 비교
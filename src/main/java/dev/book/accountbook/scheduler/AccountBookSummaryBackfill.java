@@ -0,0 +1,61 @@
+package dev.book.accountbook.scheduler;
+
+import dev.book.accountbook.repository.AccountBookDailySummaryRepository;
+import dev.book.accountbook.service.AccountBookSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 일별 집계 도입 전에 작성된 가계부 내역을 집계 테이블에 채운다.
+ * 트래픽을 받기 전에 실행되며, 사용자마다 따로 커밋하고 다시 실행해도 같은 결과가 된다.
+ * 기본값은 집계가 없는 사용자만 채우고, 이전 버전과 함께 배포된 경우처럼 집계가 어긋났다면 rebuild-all 로 전체를 다시 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountBookSummaryBackfill {
+
+    private final AccountBookDailySummaryRepository summaryRepository;
+    private final AccountBookSummaryService accountBookSummaryService;
+
+    @Value("${accountbook.summary.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+    @Value("${accountbook.summary.rebuild-all-on-startup:false}")
+    private boolean rebuildAllOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (rebuildAllOnStartup) {
+            backfill(summaryRepository.findUserIdsWithAccountBook());
+        } else if (backfillOnStartup) {
+            backfill(summaryRepository.findUserIdsWithoutSummary());
+        }
+    }
+
+    public int backfill(List<Long> userIds) {
+        int failed = 0;
+
+        for (Long userId : userIds) {
+            try {
+                accountBookSummaryService.rebuild(userId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("[AccountBook] 일별 집계 백필 실패 : userId={}", userId, e);
+            }
+        }
+
+        if (!userIds.isEmpty()) {
+            // 예산 누적 지출은 가계부 내역 기준으로 다시 계산
+            accountBookSummaryService.reconcileAllBudgets();
+            log.info("[AccountBook] 일별 집계 백필 완료 : {}명, 실패 {}명", userIds.size(), failed);
+        }
+
+        return userIds.size() - failed;
+    }
+}
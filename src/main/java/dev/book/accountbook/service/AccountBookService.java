@@ -6,6 +6,7 @@ import dev.book.accountbook.entity.AccountBook;
 import dev.book.accountbook.entity.Budget;
 import dev.book.accountbook.exception.accountbook.AccountBookErrorCode;
 import dev.book.accountbook.exception.accountbook.AccountBookErrorException;
+import dev.book.accountbook.repository.AccountBookDailySummaryRepository;
 import dev.book.accountbook.repository.AccountBookRepository;
 import dev.book.accountbook.repository.BudgetRepository;
 import dev.book.accountbook.repository.TempAccountBookRepository;
@@ -16,7 +17,7 @@ import dev.book.achievement.achievement_user.dto.event.GetWarningBudgetEvent;
 import dev.book.challenge.rank.SpendCreatedRankingEvent;
 import dev.book.global.config.Firebase.dto.LimitWarningFcmEvent;
 import dev.book.global.entity.Category;
-import dev.book.global.repository.CategoryRepository;
+import dev.book.global.repository.CategoryRegistry;
 import dev.book.user.entity.UserEntity;
 import dev.book.user.exception.UserErrorCode;
 import dev.book.user.exception.UserErrorException;
@@ -31,6 +32,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,9 +40,12 @@ import java.util.stream.Collectors;
 public class AccountBookService {
     private final UserRepository userRepository;
     private final BudgetRepository budgetRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
     private final AccountBookRepository accountBookRepository;
     private final TempAccountBookRepository tempAccountBookRepository;
+    private final AccountBookDailySummaryRepository summaryRepository;
+
+    private final AccountBookSummaryService summaryService;
 
     private final int PAGE_SIZE = 10;
 
@@ -76,6 +81,7 @@ public class AccountBookService {
         Category category = getCategory(request.category());
         AccountBook accountBook = request.toEntity(user, category);
         AccountBook saved = accountBookRepository.save(accountBook);
+        summaryService.apply(saved);
 
         handleBudgetLimitAlert(user);
 
@@ -87,7 +93,9 @@ public class AccountBookService {
     @Transactional
     public AccountBookSpendResponse modifySpend(AccountBookSpendRequest request, Long id, Long userId) {
         AccountBook accountBook = findAccountBookOrThrow(id, AccountBookErrorCode.NOT_FOUND_SPEND);
+        summaryService.revert(accountBook);
         updateAccountBook(accountBook, request);
+        summaryService.apply(accountBook);
         accountBookRepository.flush();
 
         return AccountBookSpendResponse.from(accountBook);
@@ -96,6 +104,7 @@ public class AccountBookService {
     @Transactional
     public boolean deleteSpend(Long id, Long userId) {
         AccountBook accountBook = findAccountBookOrThrow(id, AccountBookErrorCode.NOT_FOUND_SPEND);
+        summaryService.revert(accountBook);
         accountBookRepository.delete(accountBook);
 
         return true;
@@ -130,6 +139,7 @@ public class AccountBookService {
         Category category = getCategory(request.category());
         AccountBook accountBook = request.toEntity(user, category);
         AccountBook saved = accountBookRepository.save(accountBook);
+        summaryService.apply(saved);
 
         if (request.repeat() != null)
             publisher.publishEvent(new CreateFirstIncomeEvent(user));
@@ -140,7 +150,9 @@ public class AccountBookService {
     @Transactional
     public AccountBookIncomeResponse modifyIncome(Long id, AccountBookIncomeRequest request, Long userId) {
         AccountBook accountBook = findAccountBookOrThrow(id, AccountBookErrorCode.NOT_FOUND_INCOME);
+        summaryService.revert(accountBook);
         updateAccountBook(accountBook, request);
+        summaryService.apply(accountBook);
         accountBookRepository.flush();
 
         return AccountBookIncomeResponse.from(accountBook);
@@ -149,6 +161,7 @@ public class AccountBookService {
     @Transactional
     public boolean deleteIncome(Long id, Long userId) {
         AccountBook accountBook = findAccountBookOrThrow(id, AccountBookErrorCode.NOT_FOUND_INCOME);
+        summaryService.revert(accountBook);
         accountBookRepository.delete(accountBook);
 
         return true;
@@ -175,8 +188,10 @@ public class AccountBookService {
     @Transactional
     public List<AccountBookSpendResponse> createSpendList(UserEntity user, AccountBookSpendListRequest requestList) {
         List<AccountBook> accountBookList = createAccountBookList(user, requestList);
-        List<AccountBook> savedAccountBookList = accountBookRepository.saveAll(accountBookList);
-        tempAccountBookRepository.deleteAllByUser(user);
+        List<Long> savedIds = accountBookRepository.batchInsert(accountBookList);
+        List<AccountBook> savedAccountBookList = accountBookRepository.findAllByIdInOrderByIdAsc(savedIds);
+        summaryService.applyAll(savedAccountBookList);
+        tempAccountBookRepository.markAllImported(user.getId());
 
         return savedAccountBookList.stream()
                 .map(AccountBookSpendResponse::from)
@@ -209,8 +224,62 @@ public class AccountBookService {
         LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
 
         List<AccountBook> findList = accountBookRepository.findAllMonth(userId, startDate, endDate);
+        List<AccountBookDailyTotalResponse> dailyTotals = summaryRepository.findDailyTotals(userId, startDate, endDate);
+
+        return monthAccountBookList(findList, dailyTotals, startDate, endDate);
+    }
+
+    @Transactional(readOnly = true)
+    public AccountBookSliceResponse<AccountBookSpendResponse> getSpendSlice(Long userId, String cursor) {
+        AccountBookCursor current = AccountBookCursor.decode(cursor);
+        List<AccountBook> accountBooks = accountBookRepository.findSliceByType(userId, CategoryType.SPEND, current.occurredAt(), current.id(), slicePageable());
+
+        return toSliceResponse(accountBooks, AccountBookSpendResponse::from);
+    }
+
+    @Transactional(readOnly = true)
+    public AccountBookSliceResponse<AccountBookIncomeResponse> getIncomeSlice(Long userId, String cursor) {
+        AccountBookCursor current = AccountBookCursor.decode(cursor);
+        List<AccountBook> accountBooks = accountBookRepository.findSliceByType(userId, CategoryType.INCOME, current.occurredAt(), current.id(), slicePageable());
+
+        return toSliceResponse(accountBooks, AccountBookIncomeResponse::from);
+    }
+
+    @Transactional(readOnly = true)
+    public AccountBookSliceResponse<AccountBookSpendResponse> getCategorySpendSlice(String category, Long userId, String cursor) {
+        Category findCategory = getCategory(category);
+        AccountBookCursor current = AccountBookCursor.decode(cursor);
+        List<AccountBook> accountBooks = accountBookRepository.findSliceByCategory(userId, findCategory.getId(), current.occurredAt(), current.id(), slicePageable());
+
+        return toSliceResponse(accountBooks, AccountBookSpendResponse::from);
+    }
 
-        return monthAccountBookList(findList, startDate, endDate);
+    @Transactional(readOnly = true)
+    public AccountBookSliceResponse<AccountBookPeriodResponse> getAccountBookPeriodSlice(Long userId, LocalDate startDate, LocalDate endDate, String cursor) {
+        isExistsUser(userId);
+        AccountBookCursor current = AccountBookCursor.decode(cursor);
+        List<AccountBook> accountBooks = accountBookRepository.findSlicePeriod(userId, startDate, endDate, current.occurredAt(), current.id(), slicePageable());
+
+        return toSliceResponse(accountBooks, AccountBookPeriodResponse::from);
+    }
+
+    private Pageable slicePageable() {
+        // 다음 페이지 존재 여부를 COUNT 쿼리 없이 판단하기 위해 한 건 더 조회
+        return PageRequest.of(0, PAGE_SIZE + 1);
+    }
+
+    private <T> AccountBookSliceResponse<T> toSliceResponse(List<AccountBook> accountBooks, Function<AccountBook, T> mapper) {
+        boolean hasNext = accountBooks.size() > PAGE_SIZE;
+        List<AccountBook> content = hasNext ? accountBooks.subList(0, PAGE_SIZE) : accountBooks;
+        String nextCursor = hasNext ? AccountBookCursor.from(content.get(content.size() - 1)).encode() : null;
+
+        return new AccountBookSliceResponse<>(
+                content.stream()
+                        .map(mapper)
+                        .toList(),
+                nextCursor,
+                hasNext
+        );
     }
 
     private void isExistsUser(Long userId) {
@@ -246,57 +315,65 @@ public class AccountBookService {
     private Category getCategory(String category) {
         String getCategory = Objects.requireNonNullElse(category, "none");
 
-        return categoryRepository.findByCategory(getCategory)
+        return categoryRegistry.findByCode(getCategory)
                 .orElseThrow(() -> new AccountBookErrorException(AccountBookErrorCode.NOT_FOUND_CATEGORY));
     }
 
     private List<AccountBook> createAccountBookList(UserEntity user, AccountBookSpendListRequest requestList) {
+        Set<String> codes = requestList.accountBookSpendRequestList().stream()
+                .map(request -> Objects.requireNonNullElse(request.category(), "none"))
+                .collect(Collectors.toSet());
+        Map<String, Category> categories = categoryRegistry.findAllByCodes(codes);
 
         return requestList.accountBookSpendRequestList().stream()
                 .map(request -> {
-                    Category category = getCategory(request.category());
+                    Category category = categories.get(Objects.requireNonNullElse(request.category(), "none"));
+
+                    if (category == null) {
+                        throw new AccountBookErrorException(AccountBookErrorCode.NOT_FOUND_CATEGORY);
+                    }
 
                     return request.toEntity(user, category);
                 })
                 .toList();
     }
 
-    private List<AccountBookMonthResponse> monthAccountBookList(List<AccountBook> findList, LocalDate startDate, LocalDate endDate) {
+    private List<AccountBookMonthResponse> monthAccountBookList(List<AccountBook> findList, List<AccountBookDailyTotalResponse> dailyTotals, LocalDate startDate, LocalDate endDate) {
         List<AccountBookMonthResponse> responseList = new ArrayList<>();
         Map<LocalDate, List<AccountBook>> accountBookMap = groupAccountBooksByDate(findList);
+        Map<LocalDate, Map<CategoryType, Long>> totalMap = groupTotalsByDate(dailyTotals);
 
         for (int i = startDate.getDayOfMonth(); i <= endDate.getDayOfMonth(); i++) {
             LocalDate currentDate = LocalDate.of(startDate.getYear(), startDate.getMonthValue(), i);
             List<AccountBook> dayBook = accountBookMap.getOrDefault(currentDate, Collections.emptyList());
+            Map<CategoryType, Long> dayTotal = totalMap.getOrDefault(currentDate, Collections.emptyMap());
 
-            AccountBookMonthResponse response = createDailyResponse(dayBook, i);
+            AccountBookMonthResponse response = createDailyResponse(dayBook, dayTotal, i);
             responseList.add(response);
         }
 
         return responseList;
     }
 
+    private Map<LocalDate, Map<CategoryType, Long>> groupTotalsByDate(List<AccountBookDailyTotalResponse> dailyTotals) {
+        return dailyTotals.stream()
+                .collect(Collectors.groupingBy(AccountBookDailyTotalResponse::occurredAt,
+                        Collectors.toMap(AccountBookDailyTotalResponse::type, AccountBookDailyTotalResponse::total)));
+    }
+
     private Map<LocalDate, List<AccountBook>> groupAccountBooksByDate(List<AccountBook> findList) {
         return findList.stream()
                 .collect(Collectors.groupingBy(AccountBook::getOccurredAt));
     }
 
-    private AccountBookMonthResponse createDailyResponse(List<AccountBook> dayBook, int dayOfMonth) {
-        int spendTotal = calculateTotalByType(dayBook, CategoryType.SPEND);
-        int incomeTotal = calculateTotalByType(dayBook, CategoryType.INCOME);
+    private AccountBookMonthResponse createDailyResponse(List<AccountBook> dayBook, Map<CategoryType, Long> dayTotal, int dayOfMonth) {
+        int spendTotal = dayTotal.getOrDefault(CategoryType.SPEND, 0L).intValue();
+        int incomeTotal = dayTotal.getOrDefault(CategoryType.INCOME, 0L).intValue();
         List<AccountBookPeriodResponse> periodResponseList = createPeriodResponses(dayBook);
 
         return new AccountBookMonthResponse(dayOfMonth, spendTotal, incomeTotal, periodResponseList);
     }
 
-    private int calculateTotalByType(List<AccountBook> books, CategoryType type) {
-
-        return books.stream()
-                .filter(book -> book.getType() == type)
-                .mapToInt(AccountBook::getAmount)
-                .sum();
-    }
-
     private List<AccountBookPeriodResponse> createPeriodResponses(List<AccountBook> books) {
 
         return books.stream()
@@ -309,7 +386,8 @@ public class AccountBookService {
 
         budgetRepository.findByUserIdAndMonth(user.getId(), month)
                 .ifPresent(findBudget -> {
-                    BudgetResponse response = budgetRepository.findBudgetByUserIdWithTotal(user.getId());
+                    // 누적 지출은 Budget 컬럼에서 바로 읽으므로 임계치 비교는 단건 조회로 끝남
+                    BudgetResponse response = budgetRepository.findBudgetWithTotal(findBudget.getId());
                     double ratio = (double) response.total() / response.budget();
                     BudgetLimit currentLimit = BudgetLimit.limitBudget(ratio);
 
@@ -354,7 +432,7 @@ public class AccountBookService {
     public List<TempAccountBookResponse> getTempList(Long userId) {
         UserEntity user = userRepository.findById(userId).orElseThrow(() -> new UserErrorException(UserErrorCode.USER_NOT_FOUND));
 
-        return tempAccountBookRepository.findAllByUserId(user.getId()).stream()
+        return tempAccountBookRepository.findAllByUserIdAndImportedFalse(user.getId()).stream()
                 .map(TempAccountBookResponse::from)
                 .toList();
     }
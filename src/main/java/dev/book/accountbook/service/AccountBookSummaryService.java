@@ -0,0 +1,97 @@
+package dev.book.accountbook.service;
+
+import dev.book.accountbook.entity.AccountBook;
+import dev.book.accountbook.repository.AccountBookDailySummaryRepository;
+import dev.book.accountbook.repository.BudgetRepository;
+import dev.book.accountbook.type.CategoryType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AccountBookSummaryService {
+    private final BudgetRepository budgetRepository;
+    private final AccountBookDailySummaryRepository summaryRepository;
+
+    @Transactional
+    public void apply(AccountBook accountBook) {
+        upsert(accountBook, accountBook.getAmount());
+    }
+
+    @Transactional
+    public void revert(AccountBook accountBook) {
+        upsert(accountBook, -accountBook.getAmount());
+    }
+
+    @Transactional
+    public void applyAll(List<AccountBook> accountBooks) {
+        // 같은 날짜, 카테고리의 내역은 합산해서 한 번만 반영
+        Map<SummaryKey, Long> amountByKey = accountBooks.stream()
+                .filter(accountBook -> accountBook.getOccurredAt() != null)
+                .collect(Collectors.groupingBy(SummaryKey::from, Collectors.summingLong(AccountBook::getAmount)));
+
+        amountByKey.forEach((key, amount) ->
+                summaryRepository.upsertAmount(key.userId(), key.occurredAt(), key.categoryId(), key.type().name(), amount));
+
+        // 예산 누적 지출도 월 단위로 묶어서 한 번만 증가
+        Map<BudgetKey, Long> spendByMonth = amountByKey.entrySet().stream()
+                .filter(entry -> entry.getKey().type() == CategoryType.SPEND)
+                .collect(Collectors.groupingBy(entry -> BudgetKey.from(entry.getKey()), Collectors.summingLong(Map.Entry::getValue)));
+
+        spendByMonth.forEach((key, amount) -> budgetRepository.addSpentAmount(key.userId(), key.month(), amount));
+    }
+
+    @Transactional
+    public void reconcileBudget(Long budgetId) {
+        budgetRepository.reconcileSpentAmount(budgetId);
+    }
+
+    @Transactional
+    public int reconcileAllBudgets() {
+        return budgetRepository.reconcileAllSpentAmount();
+    }
+
+    @Transactional
+    public void rebuild(Long userId) {
+        summaryRepository.deleteAllByUserId(userId);
+        summaryRepository.rebuildByUserId(userId);
+    }
+
+    private void upsert(AccountBook accountBook, long amount) {
+        if (accountBook.getOccurredAt() == null) {
+
+            return;
+        }
+
+        SummaryKey key = SummaryKey.from(accountBook);
+        summaryRepository.upsertAmount(key.userId(), key.occurredAt(), key.categoryId(), key.type().name(), amount);
+
+        if (key.type() == CategoryType.SPEND) {
+            budgetRepository.addSpentAmount(key.userId(), key.occurredAt().getMonthValue(), amount);
+        }
+    }
+
+    private record BudgetKey(Long userId, int month) {
+        static BudgetKey from(SummaryKey key) {
+            return new BudgetKey(key.userId(), key.occurredAt().getMonthValue());
+        }
+    }
+
+    private record SummaryKey(Long userId, LocalDate occurredAt, Long categoryId, CategoryType type) {
+        static SummaryKey from(AccountBook accountBook) {
+            return new SummaryKey(
+                    accountBook.getUser().getId(),
+                    accountBook.getOccurredAt(),
+                    Objects.requireNonNull(accountBook.getCategory()).getId(),
+                    accountBook.getType()
+            );
+        }
+    }
+}
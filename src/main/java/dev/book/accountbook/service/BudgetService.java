@@ -24,6 +24,8 @@ public class BudgetService {
     private final UserRepository userRepository;
     private final BudgetRepository budgetRepository;
 
+    private final AccountBookSummaryService summaryService;
+
     private final ApplicationEventPublisher eventPublisher;
 
     public BudgetResponse getBudget(Long userId, int month) {
@@ -40,6 +42,7 @@ public class BudgetService {
 
         int date = getThisMonth();
         Budget budget = budgetRepository.save(new Budget(budgetRequest.budget(), date, userEntity));
+        summaryService.reconcileBudget(budget.getId());
 
         eventPublisher.publishEvent(new CreateBudgetEvent(userEntity));
 
@@ -51,6 +54,7 @@ public class BudgetService {
         Budget budget = findBudgetIdAndUserId(id, userId);
         budget.modifyBudget(budgetRequest.budget());
         budgetRepository.flush();
+        summaryService.reconcileBudget(budget.getId());
 
         return budgetRepository.findBudgetWithTotal(budget.getId());
     }
@@ -1,11 +1,11 @@
 package dev.book.accountbook.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.book.accountbook.dto.event.CreateTransEvent;
 import dev.book.accountbook.dto.request.CreateConnectedIdRequest;
-import dev.book.accountbook.dto.response.TempAccountBookResponse;
 import dev.book.accountbook.entity.Codef;
 import dev.book.accountbook.entity.TempAccountBook;
 import dev.book.accountbook.exception.codef.CodefErrorCode;
@@ -15,42 +15,41 @@ import dev.book.accountbook.repository.TempAccountBookRepository;
 import dev.book.accountbook.type.CategoryType;
 import dev.book.global.util.AccountAESUtil;
 import dev.book.global.util.RsaEncryptUtil;
+import dev.book.global.util.UrlDecodingInputStream;
 import dev.book.user.entity.UserEntity;
 import dev.book.user.exception.UserErrorCode;
 import dev.book.user.exception.UserErrorException;
 import dev.book.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.codec.binary.Base64;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 
 @Service
 @RequiredArgsConstructor
 public class CodefService {
 
-    @Value("${codef.client_id}")
-    private String CLIENT_ID;
-    @Value("${codef.client_secret}")
-    private String CLIENT_SECRET;
-    @Value("${codef.access_token}")
-    private String ACCESS_TOKEN;
-    private final String TOKEN_URL = "https://oauth.codef.io/oauth/token";
     private final String createConnectedId = "https://development.codef.io/v1/account/create";
     private final String transactions = "https://development.codef.io/v1/kr/bank/p/account/transaction-list";
+    private final int MAX_SYNC_DAYS = 90;
+    private final int SAVE_BATCH_SIZE = 100;
 
     private final UserRepository userRepository;
     private final CodefRepository codefRepository;
@@ -61,29 +60,16 @@ public class CodefService {
     private final ObjectMapper objectMapper;
     private final RsaEncryptUtil rsaEncryptUtil;
     private final ApplicationEventPublisher publisher;
+    private final CodefTokenManager codefTokenManager;
 
     public String getAccessToken() {
-        try {
-            HttpEntity<String> entity = getTokenRequest();
-            ResponseEntity<String> response = restTemplate.postForEntity(TOKEN_URL, entity, String.class);
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                HashMap<String, Object> responseMap = objectMapper.readValue(response.getBody(), new TypeReference<>() {
-                });
-
-                return (String) responseMap.get("access_token");
-            } else {
-                throw new RuntimeException("토큰 발급 실패: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("토큰 발급 중 오류 발생", e);
-        }
+        return codefTokenManager.getToken();
     }
 
     @Transactional
     public boolean createConnectedId(UserEntity user, CreateConnectedIdRequest createRequest) {
-        HttpEntity<Map<String, Object>> request = createConnectRequest(createRequest);
-        ResponseEntity<String> response = restTemplate.postForEntity(createConnectedId, request, String.class);
+        ResponseEntity<String> response = postWithToken(createConnectedId, token -> createConnectRequest(createRequest, token),
+                restTemplate.responseEntityExtractor(String.class));
         String decodeResponse = URLDecoder.decode(response.getBody(), StandardCharsets.UTF_8);
         String connectedId;
         String code;
@@ -97,45 +83,143 @@ public class CodefService {
 
         validationCode(code);
         codefRepository.save(createRequest.toEntity(user, createRequest.bank().getCode(), aesUtil.encrypt(createRequest.accountNumber()), connectedId));
-        List<TempAccountBookResponse> savedList = getTransactions(user);
+        int savedCount = syncTransactions(user);
 
-        if (!savedList.isEmpty()) {
+        if (savedCount > 0) {
             publisher.publishEvent(new CreateTransEvent(user));
         }
 
         return true;
     }
 
+    // 새로 저장한 거래 건수만 반환하고, 저장된 내역은 임시 가계부 조회 API 로 확인
     @Transactional
-    public List<TempAccountBookResponse> getTransactions(UserEntity user) {
-        HttpEntity<Map<String, Object>> request = createTransRequest(user);
-        ResponseEntity<String> response = restTemplate.postForEntity(transactions, request, String.class);
-        String decodeResponse = URLDecoder.decode(response.getBody(), StandardCharsets.UTF_8);
+    public int syncTransactions(UserEntity user) {
+        Codef codef = codefRepository.findByUser(user).orElseThrow(() -> new UserErrorException(UserErrorCode.USER_NOT_FOUND));
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = calcSyncStartDate(codef, today);
+
         UserEntity userEntity = userRepository.findById(user.getId()).orElseThrow(() -> new UserErrorException(UserErrorCode.USER_NOT_FOUND));
-        List<TempAccountBook> tempAccountBookList = tempAccountBookRepository.saveAll(mapToAccountBooks(decodeResponse, userEntity));
+        // 중복 판단용 지문은 동기화 구간(최대 MAX_SYNC_DAYS 일)의 거래 건수만큼 유지됨
+        Set<String> known = new HashSet<>(tempAccountBookRepository.findFingerprints(userEntity.getId(), startDate));
+        // 동기화 구간보다 이전에 가계부로 옮겨진 내역은 더 이상 중복 판단에 필요 없음
+        tempAccountBookRepository.deleteImportedBefore(userEntity.getId(), startDate);
+        codef.modifyLastSyncedDate(today);
+
+        List<TempAccountBook> batch = new ArrayList<>(SAVE_BATCH_SIZE);
+        int[] savedCount = {0};
 
+        postWithToken(transactions, token -> createTransRequest(codef, startDate, today, token), response -> {
+            readTransactions(response.getBody(), transaction -> {
+                TempAccountBook accountBook = toTempAccountBook(transaction, userEntity);
 
-        return tempAccountBookList.stream()
-                .map(TempAccountBookResponse::from)
-                .toList();
+                if (!known.add(accountBook.getFingerprint())) {
+
+                    return;
+                }
+
+                batch.add(accountBook);
+
+                if (batch.size() >= SAVE_BATCH_SIZE) {
+                    savedCount[0] += saveBatch(batch);
+                }
+            });
+
+            return null;
+        });
+        savedCount[0] += saveBatch(batch);
+
+        return savedCount[0];
     }
 
-    private HttpEntity<String> getTokenRequest() {
-        String auth = CLIENT_ID + ":" + CLIENT_SECRET;
-        String encodedAuth = Base64.encodeBase64String(auth.getBytes());
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-        headers.set("Authorization", "Basic " + encodedAuth);
+    // JDBC 배치로 저장해 영속성 컨텍스트에 쌓이지 않으므로 저장 대기 중인 엔티티는 배치 크기로 제한됨
+    private int saveBatch(List<TempAccountBook> batch) {
+        if (batch.isEmpty()) {
+
+            return 0;
+        }
 
-        String body = "grant_type=client_credentials&scope=read";
+        int saved = tempAccountBookRepository.batchInsert(batch);
+        batch.clear();
 
-        return new HttpEntity<>(body, headers);
+        return saved;
     }
 
-    private HttpEntity<Map<String, Object>> createConnectRequest(CreateConnectedIdRequest createRequest) {
+    // 응답 전체를 문자열이나 트리로 만들지 않고 data.resTrHistoryList 의 거래를 하나씩 읽음
+    private void readTransactions(InputStream body, Consumer<JsonNode> consumer) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(new UrlDecodingInputStream(body))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new CodefErrorException(CodefErrorCode.UNKNOWN_ERROR);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("data".equals(field) && value == JsonToken.START_OBJECT) {
+                    readTransactionList(parser, consumer);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new CodefErrorException(CodefErrorCode.UNKNOWN_ERROR);
+        }
+    }
+
+    private void readTransactionList(JsonParser parser, Consumer<JsonNode> consumer) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (!"resTrHistoryList".equals(field)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            // 거래가 한 건이면 배열이 아닌 객체로 내려올 수 있음
+            if (value == JsonToken.START_OBJECT) {
+                consumer.accept(objectMapper.readTree(parser));
+                continue;
+            }
+
+            if (value != JsonToken.START_ARRAY) {
+                continue;
+            }
+
+            JsonToken element;
+
+            while ((element = parser.nextToken()) != JsonToken.END_ARRAY && element != null) {
+                if (element == JsonToken.START_OBJECT) {
+                    consumer.accept(objectMapper.readTree(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    // 토큰이 만료되어 401을 받으면 한 번만 갱신 후 재요청
+    private <T> T postWithToken(String url, Function<String, HttpEntity<Map<String, Object>>> requestFactory, ResponseExtractor<T> extractor) {
+        String token = codefTokenManager.getToken();
+
+        try {
+            return post(url, requestFactory.apply(token), extractor);
+        } catch (HttpClientErrorException.Unauthorized e) {
+            String refreshed = codefTokenManager.refreshAfterUnauthorized(token);
+
+            return post(url, requestFactory.apply(refreshed), extractor);
+        }
+    }
+
+    private <T> T post(String url, HttpEntity<Map<String, Object>> request, ResponseExtractor<T> extractor) {
+        return restTemplate.execute(url, HttpMethod.POST, restTemplate.httpEntityCallback(request, String.class), extractor);
+    }
+
+    private HttpEntity<Map<String, Object>> createConnectRequest(CreateConnectedIdRequest createRequest, String token) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(ACCESS_TOKEN);
+        headers.setBearerAuth(token);
 
         String password = rsaEncryptUtil.encrypt(createRequest.password());
 
@@ -154,34 +238,56 @@ public class CodefService {
         return new HttpEntity<>(requestBody, headers);
     }
 
-    private HttpEntity<Map<String, Object>> createTransRequest(UserEntity user) {
-        Codef codef = codefRepository.findByUser(user).orElseThrow(() -> new UserErrorException(UserErrorCode.USER_NOT_FOUND));
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    private LocalDate calcSyncStartDate(Codef codef, LocalDate today) {
+        LocalDate earliest = today.minusDays(MAX_SYNC_DAYS);
+        LocalDate lastSyncedDate = codef.getLastSyncedDate();
+
+        if (lastSyncedDate == null || lastSyncedDate.isBefore(earliest)) {
+
+            return earliest;
+        }
+
+        // 마지막 동기화 이후 같은 날짜에 추가된 거래도 받기 위해 하루를 겹쳐서 요청
+        return lastSyncedDate;
+    }
+
+    private HttpEntity<Map<String, Object>> createTransRequest(Codef codef, LocalDate startDate, LocalDate endDate, String token) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(ACCESS_TOKEN);
+        headers.setBearerAuth(token);
 
         Map<String, Object> body = new HashMap<>();
         body.put("organization", codef.getBankCode());
         body.put("connectedId", codef.getConnectedId());
         body.put("account", aesUtil.decrypt(codef.getAccount()));
         body.put("orderBy", "0");
+        body.put("startDate", startDate.format(formatter));
+        body.put("endDate", endDate.format(formatter));
 
-        if (user.getCreatedAt().toLocalDate().isEqual(LocalDate.now())) {
-            String startDate = LocalDate.now().minusDays(90)
-                    .format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-            body.put("startDate", startDate);
-            body.put("endDate", today);
+        return new HttpEntity<>(body, headers);
+    }
 
-            return new HttpEntity<>(body, headers);
-        }
+    private String fingerprint(JsonNode transaction) {
+        String raw = String.join("|",
+                transaction.path("resAccountTrDate").asText(),
+                transaction.path("resAccountTrTime").asText(),
+                transaction.path("resAccountOut").asText(),
+                transaction.path("resAccountIn").asText(),
+                transaction.path("resAccountDesc1").asText(),
+                transaction.path("resAccountDesc2").asText(),
+                transaction.path("resAccountDesc3").asText(),
+                transaction.path("resAccountDesc4").asText(),
+                transaction.path("resAfterTranBalance").asText());
 
-        body.put("startDate", today);
-        body.put("endDate", today);
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(raw.getBytes(StandardCharsets.UTF_8));
 
-        return new HttpEntity<>(body, headers);
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CodefErrorException(CodefErrorCode.UNKNOWN_ERROR);
+        }
     }
 
     private void validationCode(String code) {
@@ -194,40 +300,22 @@ public class CodefService {
         }
     }
 
-    private List<TempAccountBook> mapToAccountBooks(String jsonString, UserEntity user) {
-        JsonNode root = null;
-
-        try {
-            root = objectMapper.readTree(jsonString);
-        } catch (Exception e) {
-            throw new CodefErrorException(CodefErrorCode.UNKNOWN_ERROR);
-        }
-
-        JsonNode resTrHistoryList = root.path("data").path("resTrHistoryList");
-
-        List<TempAccountBook> accountBooks = new ArrayList<>();
+    private TempAccountBook toTempAccountBook(JsonNode transaction, UserEntity user) {
+        String title = transaction.path("resAccountDesc2").asText();
+        String desc3 = transaction.path("resAccountDesc3").asText();
+        String desc4 = transaction.path("resAccountDesc4").asText();
+        String memo = desc3 + "_" + desc4;
 
-        for (JsonNode transaction : resTrHistoryList) {
-            String title = transaction.path("resAccountDesc2").asText();
-            String desc3 = transaction.path("resAccountDesc3").asText();
-            String desc4 = transaction.path("resAccountDesc4").asText();
-            String memo = desc3 + "_" + desc4;
+        int resAccountOut = transaction.path("resAccountOut").asInt();
+        int resAccountIn = transaction.path("resAccountIn").asInt();
 
-            int resAccountOut = transaction.path("resAccountOut").asInt();
-            int resAccountIn = transaction.path("resAccountIn").asInt();
+        boolean isIncome = resAccountIn > 0;
+        int amount = isIncome ? resAccountIn : resAccountOut;
+        CategoryType type = isIncome ? CategoryType.INCOME : CategoryType.SPEND;
 
-            boolean isIncome = resAccountIn > 0;
-            int amount = isIncome ? resAccountIn : resAccountOut;
-            CategoryType type = isIncome ? CategoryType.INCOME : CategoryType.SPEND;
-
-            String resAccountTrDate = transaction.path("resAccountTrDate").asText();
-            LocalDate occurredAt = LocalDate.parse(resAccountTrDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-            TempAccountBook accountBook = new TempAccountBook(title, memo, amount, type, user, occurredAt);
-
-            accountBooks.add(accountBook);
-        }
+        String resAccountTrDate = transaction.path("resAccountTrDate").asText();
+        LocalDate occurredAt = LocalDate.parse(resAccountTrDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
 
-        return accountBooks;
+        return new TempAccountBook(title, memo, amount, type, user, occurredAt, fingerprint(transaction));
     }
 }
@@ -0,0 +1,163 @@
+package dev.book.accountbook.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.book.accountbook.exception.codef.CodefErrorCode;
+import dev.book.accountbook.exception.codef.CodefErrorException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Base64;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Codef OAuth 액세스 토큰을 만료 시각과 함께 보관하고, 만료 전에 미리 갱신한다.
+ * 동시에 여러 스레드가 갱신을 요청해도 토큰 발급 요청은 한 번만 나간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CodefTokenManager {
+
+    @Value("${codef.client_id}")
+    private String CLIENT_ID;
+    @Value("${codef.client_secret}")
+    private String CLIENT_SECRET;
+    // 만료까지 이 시간 이하로 남으면 미리 갱신
+    @Value("${codef.token.refresh-before-seconds:600}")
+    private long refreshBeforeSeconds;
+    private final String TOKEN_URL = "https://oauth.codef.io/oauth/token";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<CodefToken> token = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<CodefToken>> inFlight = new AtomicReference<>();
+
+    public String getToken() {
+        CodefToken current = token.get();
+
+        if (current != null && !current.isExpired(Instant.now())) {
+
+            return current.value();
+        }
+
+        return refresh().value();
+    }
+
+    /**
+     * 401 응답을 받은 경우 호출한다. 그 사이 다른 스레드가 이미 갱신했다면 새 토큰을 그대로 돌려준다.
+     */
+    public String refreshAfterUnauthorized(String rejectedToken) {
+        CodefToken current = token.get();
+
+        if (current != null && !current.value().equals(rejectedToken)) {
+
+            return current.value();
+        }
+
+        return refresh().value();
+    }
+
+    @Scheduled(fixedDelayString = "${codef.token.check-interval-ms:60000}")
+    public void refreshIfExpiringSoon() {
+        CodefToken current = token.get();
+
+        if (current == null || !current.isExpired(Instant.now().plusSeconds(refreshBeforeSeconds))) {
+
+            return;
+        }
+
+        try {
+            refresh();
+        } catch (CodefErrorException e) {
+            log.warn("[Codef] 토큰 사전 갱신 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private CodefToken refresh() {
+        CompletableFuture<CodefToken> future = new CompletableFuture<>();
+        CompletableFuture<CodefToken> running = inFlight.compareAndExchange(null, future);
+
+        if (running != null) {
+
+            return await(running);
+        }
+
+        try {
+            CodefToken issued = issueToken();
+            token.set(issued);
+            future.complete(issued);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.set(null);
+        }
+
+        return await(future);
+    }
+
+    private CodefToken await(CompletableFuture<CodefToken> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CodefErrorException codefErrorException) {
+                throw codefErrorException;
+            }
+
+            throw new CodefErrorException(CodefErrorCode.TOKEN_ISSUE_FAILED);
+        }
+    }
+
+    private CodefToken issueToken() {
+        try {
+            ResponseEntity<String> response = restTemplate.postForEntity(TOKEN_URL, getTokenRequest(), String.class);
+            JsonNode root = objectMapper.readTree(response.getBody());
+            String accessToken = root.path("access_token").asText(null);
+
+            if (!response.getStatusCode().is2xxSuccessful() || accessToken == null) {
+                throw new CodefErrorException(CodefErrorCode.TOKEN_ISSUE_FAILED);
+            }
+
+            long expiresIn = root.path("expires_in").asLong(0);
+
+            return new CodefToken(accessToken, Instant.now().plus(Duration.ofSeconds(expiresIn)));
+        } catch (CodefErrorException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("[Codef] 토큰 발급 중 오류 발생", e);
+
+            throw new CodefErrorException(CodefErrorCode.TOKEN_ISSUE_FAILED);
+        }
+    }
+
+    private HttpEntity<String> getTokenRequest() {
+        String auth = CLIENT_ID + ":" + CLIENT_SECRET;
+        String encodedAuth = Base64.encodeBase64String(auth.getBytes());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        headers.set("Authorization", "Basic " + encodedAuth);
+
+        String body = "grant_type=client_credentials&scope=read";
+
+        return new HttpEntity<>(body, headers);
+    }
+
+    private record CodefToken(String value, Instant expiresAt) {
+        private boolean isExpired(Instant at) {
+            return !at.isBefore(expiresAt);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import dev.book.accountbook.dto.response.AccountBookSpendListResponse;
 import dev.book.accountbook.dto.response.AccountBookSpendResponse;
 import dev.book.accountbook.dto.response.AccountBookStatResponse;
 import dev.book.accountbook.entity.AccountBook;
+import dev.book.accountbook.repository.AccountBookDailySummaryRepository;
 import dev.book.accountbook.repository.AccountBookRepository;
 import dev.book.accountbook.type.CategoryType;
 import dev.book.accountbook.type.Frequency;
@@ -30,6 +31,7 @@ import java.util.List;
 public class StatService {
     private final UserRepository userRepository;
     private final AccountBookRepository accountBookRepository;
+    private final AccountBookDailySummaryRepository summaryRepository;
 
     private final int PAGE_SIZE = 10;
 
@@ -63,7 +65,7 @@ public class StatService {
 
     private List<AccountBookStatResponse> getStatList(Long userId, LocalDate startDate) {
 
-        return accountBookRepository.findTopCategoriesByUserAndPeriod(userId, startDate, LocalDate.now(), CategoryType.SPEND);
+        return summaryRepository.findTopCategoriesByUserAndPeriod(userId, startDate, LocalDate.now(), CategoryType.SPEND);
     }
 
     private AccountBookSpendListResponse getCategoryList(Long userId, String category, LocalDate starDate, Pageable pageable) {
@@ -82,15 +84,15 @@ public class StatService {
     }
 
     private AccountBookConsumeResponse getConsume(UserEntity user, PeriodRange period) {
-        Integer thisAmount = accountBookRepository.sumSpending(user.getId(), CategoryType.SPEND, period.currentStart(), period.currentEnd());
-        Integer lastAmount = accountBookRepository.sumSpending(user.getId(), CategoryType.SPEND, period.previousStart(), period.previousEnd());
+        long thisAmount = summaryRepository.sumAmount(user.getId(), CategoryType.SPEND, period.currentStart(), period.currentEnd());
+        long lastAmount = summaryRepository.sumAmount(user.getId(), CategoryType.SPEND, period.previousStart(), period.previousEnd());
 
-        return new AccountBookConsumeResponse(lastAmount - thisAmount);
+        return new AccountBookConsumeResponse((int) (lastAmount - thisAmount));
     }
 
     public int getTotalConsumeOfLastMonth(Long userId) {
         PeriodRange periodRange = Frequency.MONTHLY.calcPeriod();
 
-        return accountBookRepository.sumSpending(userId, CategoryType.SPEND, periodRange.previousStart(), periodRange.previousEnd());
+        return summaryRepository.sumAmount(userId, CategoryType.SPEND, periodRange.previousStart(), periodRange.previousEnd()).intValue();
     }
 }
@@ -0,0 +1,163 @@
+package dev.book.accountbook.sync;
+
+import dev.book.accountbook.dto.event.CreateTransEvent;
+import dev.book.accountbook.entity.Codef;
+import dev.book.accountbook.service.CodefService;
+import dev.book.global.util.HttpRequestAborter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class CodefSyncEngine {
+    private final CodefService codefService;
+    private final CodefSyncProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService workerPool;
+    private final ScheduledExecutorService watchdog;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public CodefSyncEngine(CodefService codefService, CodefSyncProperties properties,
+                           ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.codefService = codefService;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.workerPool = Executors.newFixedThreadPool(properties.getWorkerCount(), new CustomizableThreadFactory("codef-sync-"));
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("codef-sync-watchdog-"));
+
+        meterRegistry.gauge("codef.sync.pending", pending);
+        meterRegistry.gauge("codef.sync.in_flight", inFlight);
+    }
+
+    /**
+     * 은행별 대기열에서 허용량(perBankConcurrency)만큼만 작업을 꺼내 실행한다.
+     * 작업 스레드는 은행별 허용량을 기다리며 블로킹하지 않으므로 느린 은행이 있어도 다른 은행의 동기화는 계속 진행된다.
+     */
+    public SyncResult synchronize(List<Codef> codefList) {
+        Map<String, Deque<Codef>> queues = groupByBank(codefList);
+        Map<String, Semaphore> bankPermits = new HashMap<>();
+        BlockingQueue<Outcome> completions = new LinkedBlockingQueue<>();
+        SyncResult result = new SyncResult(codefList.size());
+        long startedAt = System.nanoTime();
+        int running = 0;
+
+        pending.set(codefList.size());
+
+        while (!queues.isEmpty() || running > 0) {
+            running += dispatch(queues, bankPermits, completions);
+
+            try {
+                Outcome outcome = completions.take();
+                running--;
+                result.record(outcome);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("계좌 동기화 대기 중 인터럽트가 발생했습니다. 남은 작업 : {}", running);
+
+                break;
+            }
+        }
+
+        result.finish(System.nanoTime() - startedAt);
+        log.info("계좌 동기화 완료 : 전체 {}, 성공 {}, 실패 {}, 시간 초과 {}, 처리량 {}/s",
+                result.getTotal(), result.getSucceeded(), result.getFailed(), result.getTimedOut(), String.format("%.2f", result.throughput()));
+
+        return result;
+    }
+
+    private int dispatch(Map<String, Deque<Codef>> queues, Map<String, Semaphore> bankPermits, BlockingQueue<Outcome> completions) {
+        int dispatched = 0;
+        Iterator<Map.Entry<String, Deque<Codef>>> iterator = queues.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<String, Deque<Codef>> entry = iterator.next();
+            Semaphore permits = bankPermits.computeIfAbsent(entry.getKey(), code -> new Semaphore(properties.getPerBankConcurrency()));
+
+            while (!entry.getValue().isEmpty() && permits.tryAcquire()) {
+                submit(entry.getValue().poll(), permits, completions);
+                dispatched++;
+            }
+
+            if (entry.getValue().isEmpty()) {
+                iterator.remove();
+            }
+        }
+
+        return dispatched;
+    }
+
+    private void submit(Codef codef, Semaphore permits, BlockingQueue<Outcome> completions) {
+        String bankCode = codef.getBankCode();
+        pending.decrementAndGet();
+        inFlight.incrementAndGet();
+
+        workerPool.execute(() -> {
+            // 제한 시간은 작업 큐 대기 시간을 제외하고 실제 실행 시점부터 측정
+            // 인터럽트로는 블로킹 소켓 읽기가 풀리지 않으므로 진행 중인 HTTP 요청을 직접 취소함
+            HttpRequestAborter aborter = HttpRequestAborter.open();
+            ScheduledFuture<?> guard = watchdog.schedule(aborter::abort, properties.getUserTimeoutSeconds(), TimeUnit.SECONDS);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Outcome outcome = Outcome.FAILED;
+
+            try {
+                int savedCount = codefService.syncTransactions(codef.getUser());
+
+                if (savedCount > 0) {
+                    eventPublisher.publishEvent(new CreateTransEvent(codef.getUser()));
+                }
+
+                outcome = Outcome.SUCCEEDED;
+            } catch (Exception e) {
+                outcome = aborter.isAborted() ? Outcome.TIMED_OUT : Outcome.FAILED;
+                log.warn("계좌 동기화 실패 : codef ID={}, 은행={}, 사유={}", codef.getId(), bankCode, e.getMessage());
+            } finally {
+                guard.cancel(false);
+                aborter.close();
+                sample.stop(meterRegistry.timer("codef.sync.user.duration", "bank", bankCode));
+                Counter.builder("codef.sync.users")
+                        .tag("bank", bankCode)
+                        .tag("result", outcome.name().toLowerCase())
+                        .register(meterRegistry)
+                        .increment();
+                inFlight.decrementAndGet();
+                permits.release();
+                completions.add(outcome);
+            }
+        });
+    }
+
+    private Map<String, Deque<Codef>> groupByBank(List<Codef> codefList) {
+        Map<String, Deque<Codef>> queues = new LinkedHashMap<>();
+
+        for (Codef codef : codefList) {
+            queues.computeIfAbsent(codef.getBankCode(), code -> new ArrayDeque<>()).add(codef);
+        }
+
+        return queues;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        workerPool.shutdown();
+    }
+
+    enum Outcome {
+        SUCCEEDED, FAILED, TIMED_OUT
+    }
+}
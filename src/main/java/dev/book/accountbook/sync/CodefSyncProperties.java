@@ -0,0 +1,19 @@
+package dev.book.accountbook.sync;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "codef.sync")
+public class CodefSyncProperties {
+    // 전체 동기화 작업 스레드 수
+    private int workerCount = 16;
+    // 은행(기관 코드)별 동시 요청 수
+    private int perBankConcurrency = 4;
+    // 사용자 한 명의 거래 내역 동기화 제한 시간(초)
+    private long userTimeoutSeconds = 30;
+}
@@ -0,0 +1,37 @@
+package dev.book.accountbook.sync;
+
+import lombok.Getter;
+
+@Getter
+public class SyncResult {
+    private final int total;
+    private int succeeded;
+    private int failed;
+    private int timedOut;
+    private long elapsedNanos;
+
+    SyncResult(int total) {
+        this.total = total;
+    }
+
+    void record(CodefSyncEngine.Outcome outcome) {
+        switch (outcome) {
+            case SUCCEEDED -> succeeded++;
+            case FAILED -> failed++;
+            case TIMED_OUT -> timedOut++;
+        }
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public double throughput() {
+        if (elapsedNanos == 0) {
+
+            return 0;
+        }
+
+        return (succeeded + failed + timedOut) / (elapsedNanos / 1_000_000_000.0);
+    }
+}
@@ -19,6 +19,11 @@ public class IndividualAchievementStatus {
     @OneToOne
     @JoinColumn(name="user_id")
     private UserEntity user;
+
+    // 이벤트 타입별로 따로 처리되는 핸들러가 같은 현황을 덮어쓰지 않도록 함
+    @Version
+    private Long version;
+
     private int completeChallenge=0; //챌린지 달성
     private int failChallenge=0; //챌린지 실패
     private int createChallenge=0; //챌린지 생성
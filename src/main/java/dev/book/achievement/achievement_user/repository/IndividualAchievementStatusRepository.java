@@ -3,6 +3,9 @@ package dev.book.achievement.achievement_user.repository;
 import dev.book.achievement.achievement_user.entity.IndividualAchievementStatus;
 import dev.book.user.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -10,4 +13,22 @@ public interface IndividualAchievementStatusRepository extends JpaRepository<Ind
     Optional<IndividualAchievementStatus> findByUser(UserEntity user);
 
     void deleteByUser(UserEntity user);
+
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM IndividualAchievementStatus s")
+    long findMaxId();
+
+    /**
+     * id 범위 안의 로그인 현황을 다음 날로 넘긴다.
+     * 오늘 로그인했다면 연속 로그인 횟수를 유지하고 어제 로그인한 것으로, 아니라면 연속 로그인 횟수를 초기화한다.
+     * 연속 로그인 횟수를 먼저 계산해야 변경 전 오늘 로그인 여부를 기준으로 판단한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE IndividualAchievementStatus s
+            SET s.consecutiveLogins = CASE WHEN s.isLoginToday = true THEN s.consecutiveLogins ELSE 0 END,
+                s.isLoginYesterday = s.isLoginToday,
+                s.isLoginToday = false
+            WHERE s.id > :fromId AND s.id <= :toId
+            """)
+    int rolloverLogin(@Param("fromId") long fromId, @Param("toId") long toId);
 }
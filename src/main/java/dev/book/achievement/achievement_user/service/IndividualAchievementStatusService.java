@@ -4,6 +4,7 @@ import dev.book.achievement.achievement_user.dto.event.*;
 import dev.book.achievement.achievement_user.entity.IndividualAchievementStatus;
 import dev.book.achievement.achievement_user.repository.IndividualAchievementStatusRepository;
 import dev.book.achievement.service.AchievementService;
+import dev.book.global.event.AsyncEventHandler;
 import dev.book.user.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -46,6 +47,7 @@ public class IndividualAchievementStatusService {
         return continuous;
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void plusCompleteChallenge(CompleteChallengeEvent event) {
@@ -61,6 +63,7 @@ public class IndividualAchievementStatusService {
         }
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void plusFailChallenge(FailChallengeEvent event) {
@@ -71,6 +74,7 @@ public class IndividualAchievementStatusService {
         }
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void plusCreateChallenge(CreateChallengeEvent event) {
@@ -84,6 +88,7 @@ public class IndividualAchievementStatusService {
         }
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void plusCheckSpendAnalysis(CheckSpendAnalysisEvent event) {
@@ -93,6 +98,7 @@ public class IndividualAchievementStatusService {
             achievementService.saveAchievement(9L, event.user().getId());
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void setCreateFirstIncomeTrue(CreateFirstIncomeEvent event) {
@@ -103,6 +109,7 @@ public class IndividualAchievementStatusService {
         }
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void achieveSaveAccomplishmentOfWeek(SaveConsumeOfWeekEvent event){
@@ -126,6 +133,7 @@ public class IndividualAchievementStatusService {
     }
 
     //미구현 부분
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void plusConsecutiveNoSpend(ConsecutiveNoSpendEvent event) {
@@ -136,6 +144,7 @@ public class IndividualAchievementStatusService {
         }
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void plusCreateBudget(CreateBudgetEvent event) {
@@ -149,6 +158,7 @@ public class IndividualAchievementStatusService {
         }
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void plusSuccessBudgetPlan(SuccessBudgetPlanEvent event) {
@@ -172,6 +182,7 @@ public class IndividualAchievementStatusService {
         achievementStatus.setSuccessBudgetPlanLastMonth(false);
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void plusGetWarningBudget(GetWarningBudgetEvent event) {
@@ -180,6 +191,7 @@ public class IndividualAchievementStatusService {
         if (getWarningBudget == 1) achievementService.saveAchievement(18L, event.user().getId());
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void achieveSaveAccomplishmentFromBudget(SaveConsumeFromBudgetEvent event){
@@ -201,6 +213,7 @@ public class IndividualAchievementStatusService {
         achievementService.saveAchievement(20L, userId);
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void plusInviteFriendToService(InviteFriendToServiceEvent event) {
@@ -214,6 +227,7 @@ public class IndividualAchievementStatusService {
         }
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void plusInviteFriendToChallenge(InviteFriendToChallengeEvent event) {
@@ -224,6 +238,7 @@ public class IndividualAchievementStatusService {
         }
     }
 
+    @AsyncEventHandler
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void plusShareTips(ShareTipsEvent event) {
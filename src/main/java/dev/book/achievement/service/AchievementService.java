@@ -8,10 +8,6 @@ import dev.book.achievement.entity.Achievement;
 import dev.book.achievement.exception.AchievementErrorCode;
 import dev.book.achievement.exception.AchievementException;
 import dev.book.achievement.repository.AchievementRepository;
-import dev.book.global.config.Firebase.entity.FcmToken;
-import dev.book.global.config.Firebase.exception.FcmTokenErrorCode;
-import dev.book.global.config.Firebase.exception.FcmTokenErrorException;
-import dev.book.global.config.Firebase.repository.FcmTokenRepository;
 import dev.book.global.config.Firebase.service.FCMService;
 import dev.book.global.sse.service.SseService;
 import dev.book.user.entity.UserEntity;
@@ -28,7 +24,6 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class AchievementService {
 
-    private final FcmTokenRepository fcmTokenRepository;
     private final AchievementUserRepository achievementUserRepository;
     private final AchievementRepository achievementRepository;
     private final UserRepository userRepository;
@@ -59,11 +54,8 @@ public class AchievementService {
      * 달성한 업적에 대하여 FCM 알림을 보냅니다.
      * @param event
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleFcmAchievementNotification(GetAchievementEvent event){
-        FcmToken token = fcmTokenRepository.findByUserId(event.userId())
-                .orElseThrow(() -> new FcmTokenErrorException(FcmTokenErrorCode.NOT_FOUND_FCM_TOKEN));
-        fcmService.sendAchievementNotification(token.getToken(), event.achievement());
+        fcmService.sendAchievementNotification(event.userId(), event.achievement());
     }
 
     /**
@@ -9,12 +9,11 @@ import dev.book.global.entity.Category;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDate;
 import java.util.List;
 
+// 지출 이벤트는 outbox 를 거쳐 OutboxDispatcher 가 호출함
 @RequiredArgsConstructor
 @Component
 public class SpendEventListener {
@@ -23,16 +22,16 @@ public class SpendEventListener {
     private final RankService rankService;
     private final SimpMessagingTemplate messagingTemplate;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handleSpendCreatedEvent(SpendCreatedRankingEvent event) {
+    // spendKey 는 순위 이벤트의 outbox 키, 같은 이벤트가 다시 전송되어도 순위표에는 한 번만 반영됨
+    public void handleSpendCreatedEvent(SpendCreatedRankingEvent event, String spendKey) {
         AccountBook accountBook = event.accountBook();
         Long userId = accountBook.getUser().getId();
         LocalDate spendDate = accountBook.getOccurredAt();
         Category spendCategory = accountBook.getCategory();
         List<Challenge> joinedChallenges = userChallengeRepository.findChallengesByUserAndDate(userId, spendCategory.getId(), spendDate);
-        // 참여자 전체 순위 재계산 후 전송
+        // 메모리 순위표에 이번 지출만 반영 후 전송
         for (Challenge challenge : joinedChallenges) {
-            rankService.checkRank(challenge.getId());
+            rankService.applySpend(challenge.getId(), userId, spendKey, accountBook.getAmount());
         }
     }
 
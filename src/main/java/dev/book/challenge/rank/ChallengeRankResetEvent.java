@@ -0,0 +1,5 @@
+package dev.book.challenge.rank;
+
+// 참여자나 카테고리 구성이 바뀌어 메모리 순위표를 다시 만들어야 하는 경우
+public record ChallengeRankResetEvent(Long challengeId) {
+}
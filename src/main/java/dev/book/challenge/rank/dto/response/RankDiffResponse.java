@@ -0,0 +1,7 @@
+package dev.book.challenge.rank.dto.response;
+
+import java.util.List;
+
+// size 는 전체 순위 길이, 클라이언트는 이 길이에 맞춰 뒤쪽 순위를 잘라냄
+public record RankDiffResponse(int size, List<RankPositionResponse> changed) {
+}
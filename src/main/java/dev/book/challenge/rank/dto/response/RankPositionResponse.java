@@ -0,0 +1,4 @@
+package dev.book.challenge.rank.dto.response;
+
+public record RankPositionResponse(int rank, String name, long totalSpend) {
+}
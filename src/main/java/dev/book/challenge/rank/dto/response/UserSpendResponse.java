@@ -0,0 +1,5 @@
+package dev.book.challenge.rank.dto.response;
+
+// 참여자의 지출 한 건
+public record UserSpendResponse(Long userId, Long accountBookId, int amount) {
+}
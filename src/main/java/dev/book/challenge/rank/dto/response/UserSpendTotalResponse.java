@@ -0,0 +1,4 @@
+package dev.book.challenge.rank.dto.response;
+
+public record UserSpendTotalResponse(Long userId, String name, long totalSpend) {
+}
@@ -0,0 +1,91 @@
+package dev.book.challenge.rank.service;
+
+import dev.book.challenge.rank.dto.response.RankResponse;
+import dev.book.challenge.rank.dto.response.UserSpendTotalResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 챌린지 하나의 참여자별 누적 지출을 지출이 적은 순으로 유지한다.
+ * 지출 한 건은 기존 위치를 빼고 다시 넣는 O(log n) 연산으로 반영된다.
+ * 적재 이후 반영한 지출만 순위 이벤트의 outbox 키로 기억해, 같은 이벤트가 다시 전달되어도 한 번만 더한다.
+ */
+class ChallengeLeaderboard {
+    private final Map<Long, Standing> standings = new HashMap<>();
+    private final TreeSet<Standing> ranking = new TreeSet<>(
+            Comparator.comparingLong(Standing::totalSpend).thenComparing(Standing::userId));
+
+    // 적재 이후 반영한 지출, 보정으로 교체될 때 새 집계에 포함되지 않은 지출을 새 순위표에 다시 반영하는 데 사용
+    private final Map<String, Spend> applied = new LinkedHashMap<>();
+    private boolean retired;
+
+    ChallengeLeaderboard(List<UserSpendTotalResponse> totals) {
+        for (UserSpendTotalResponse total : totals) {
+            Standing standing = new Standing(total.userId(), total.name(), total.totalSpend());
+            standings.put(standing.userId(), standing);
+            ranking.add(standing);
+        }
+    }
+
+    synchronized ApplyResult addSpend(String spendKey, Long userId, long amount) {
+        if (retired) {
+
+            return ApplyResult.RETIRED;
+        }
+
+        Standing current = standings.get(userId);
+
+        if (current == null) {
+
+            return ApplyResult.UNKNOWN_PARTICIPANT;
+        }
+
+        if (applied.putIfAbsent(spendKey, new Spend(spendKey, userId, amount)) != null) {
+
+            return ApplyResult.APPLIED;
+        }
+
+        ranking.remove(current);
+        Standing updated = new Standing(userId, current.name(), current.totalSpend() + amount);
+        standings.put(userId, updated);
+        ranking.add(updated);
+
+        return ApplyResult.APPLIED;
+    }
+
+    // 이후의 지출은 RETIRED 로 돌려보내 호출한 쪽이 새 순위표에 반영하게 함
+    synchronized List<Spend> retire() {
+        retired = true;
+
+        return new ArrayList<>(applied.values());
+    }
+
+    // 새 순위표에서 빠진 참여자의 지출은 버림
+    void replay(List<Spend> spends) {
+        for (Spend spend : spends) {
+            addSpend(spend.key(), spend.userId(), spend.amount());
+        }
+    }
+
+    synchronized List<RankResponse> snapshot() {
+        return ranking.stream()
+                .map(standing -> new RankResponse(standing.name(), standing.totalSpend()))
+                .toList();
+    }
+
+    enum ApplyResult {
+        APPLIED, UNKNOWN_PARTICIPANT, RETIRED
+    }
+
+    record Spend(String key, Long userId, long amount) {
+    }
+
+    private record Standing(Long userId, String name, long totalSpend) {
+    }
+}
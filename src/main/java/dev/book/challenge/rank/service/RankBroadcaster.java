@@ -0,0 +1,132 @@
+package dev.book.challenge.rank.service;
+
+import dev.book.challenge.rank.dto.response.RankDiffResponse;
+import dev.book.challenge.rank.dto.response.RankPositionResponse;
+import dev.book.challenge.rank.dto.response.RankResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 순위 변경을 바로 보내지 않고 챌린지별로 모아 두었다가 window 마다 챌린지당 한 번만 전송한다.
+ * diff 모드에서는 직전에 보낸 순위와 달라진 위치만 /rank/diff 로 보낸다.
+ */
+@Slf4j
+@Component
+public class RankBroadcaster {
+    private final SimpMessagingTemplate messagingTemplate;
+    private final boolean diffEnabled;
+
+    // 챌린지 ID -> 전송 시점에 계산할 최신 순위, 같은 window 안의 요청은 덮어써서 하나로 합쳐짐
+    private final Map<Long, Supplier<List<RankResponse>>> pending = new ConcurrentHashMap<>();
+    private final Map<Long, List<RankResponse>> lastSent = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    private final Counter requested;
+    private final Counter sent;
+
+    public RankBroadcaster(SimpMessagingTemplate messagingTemplate, MeterRegistry meterRegistry,
+                           @Value("${challenge.rank.broadcast-window-ms:500}") long windowMillis,
+                           @Value("${challenge.rank.broadcast-diff:false}") boolean diffEnabled) {
+        this.messagingTemplate = messagingTemplate;
+        this.diffEnabled = diffEnabled;
+        this.requested = meterRegistry.counter("challenge.rank.broadcast", "result", "requested");
+        this.sent = meterRegistry.counter("challenge.rank.broadcast", "result", "sent");
+        meterRegistry.gaugeMapSize("challenge.rank.broadcast.pending", List.of(), pending);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("rank-broadcast-"));
+        this.flusher.scheduleWithFixedDelay(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void submit(Long challengeId, Supplier<List<RankResponse>> ranking) {
+        requested.increment();
+        pending.put(challengeId, ranking);
+    }
+
+    // 클라이언트가 직접 요청한 경우에는 기다리지 않고 전체 순위를 보냄
+    public void sendNow(Long challengeId, List<RankResponse> ranking) {
+        pending.remove(challengeId);
+        lastSent.put(challengeId, ranking);
+        messagingTemplate.convertAndSend(destination(challengeId), ranking);
+        sent.increment();
+    }
+
+    public void forget(Long challengeId) {
+        pending.remove(challengeId);
+        lastSent.remove(challengeId);
+    }
+
+    void flush() {
+        for (Long challengeId : pending.keySet()) {
+            Supplier<List<RankResponse>> ranking = pending.remove(challengeId);
+
+            if (ranking == null) {
+                continue;
+            }
+
+            try {
+                send(challengeId, ranking.get());
+            } catch (Exception e) {
+                log.warn("[Rank] 순위 전송 실패 : 챌린지 ID={}", challengeId, e);
+            }
+        }
+    }
+
+    private void send(Long challengeId, List<RankResponse> ranking) {
+        List<RankResponse> previous = lastSent.put(challengeId, ranking);
+
+        if (!diffEnabled || previous == null) {
+            messagingTemplate.convertAndSend(destination(challengeId), ranking);
+            sent.increment();
+
+            return;
+        }
+
+        List<RankPositionResponse> changed = diff(previous, ranking);
+
+        if (changed.isEmpty() && previous.size() == ranking.size()) {
+
+            return;
+        }
+
+        messagingTemplate.convertAndSend(destination(challengeId) + "/diff", new RankDiffResponse(ranking.size(), changed));
+        sent.increment();
+    }
+
+    private List<RankPositionResponse> diff(List<RankResponse> previous, List<RankResponse> current) {
+        List<RankPositionResponse> changed = new ArrayList<>();
+
+        for (int i = 0; i < current.size(); i++) {
+            RankResponse rank = current.get(i);
+
+            if (i >= previous.size() || !previous.get(i).equals(rank)) {
+                changed.add(new RankPositionResponse(i + 1, rank.name(), rank.totalSpend()));
+            }
+        }
+
+        return changed;
+    }
+
+    private String destination(Long challengeId) {
+        return "/sub/challenge/" + challengeId + "/rank";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+    }
+}
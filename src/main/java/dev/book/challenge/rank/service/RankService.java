@@ -5,16 +5,31 @@ import dev.book.challenge.ChallengeCategory;
 import dev.book.challenge.entity.Challenge;
 import dev.book.challenge.exception.ChallengeException;
 import dev.book.challenge.exception.ErrorCode;
-import dev.book.challenge.rank.dto.response.RankResponse;
+import dev.book.challenge.rank.ChallengeRankResetEvent;
+import dev.book.challenge.rank.dto.response.UserSpendResponse;
+import dev.book.challenge.rank.dto.response.UserSpendTotalResponse;
+import dev.book.challenge.rank.service.ChallengeLeaderboard.ApplyResult;
+import dev.book.challenge.rank.service.ChallengeLeaderboard.Spend;
 import dev.book.challenge.repository.ChallengeRepository;
+import dev.book.challenge.type.Status;
 import dev.book.challenge.user_challenge.repository.UserChallengeRepository;
 import dev.book.global.entity.Category;
+import dev.book.global.outbox.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,19 +39,167 @@ public class RankService {
     private final ChallengeRepository challengeRepository;
     private final UserChallengeRepository userChallengeRepository;
     private final AccountBookRepository accountBookRepository;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final OutboxEventRepository outboxEventRepository;
+    private final RankBroadcaster rankBroadcaster;
+    private final TransactionTemplate transactionTemplate;
+
+    // 챌린지 ID -> 메모리 순위표, 처음 조회할 때 DB 집계로 적재
+    private final Map<Long, ChallengeLeaderboard> leaderboards = new ConcurrentHashMap<>();
+    // 챌린지 ID -> 참여자 변경으로 순위표를 비운 횟수, 적재 도중 비워졌는지 확인하는 데 사용
+    private final Map<Long, Long> resets = new ConcurrentHashMap<>();
 
     public void checkRank(Long challengeId) {
-        // 카테고리를 조인해서 챌린지아이디로 조회 하고 그 챌린지의 속한 유저 아이디를 불러온다.
-        log.info("순위체크를 시도하는 챌린지 :{}",challengeId);
-        Challenge challenge = challengeRepository.findByIdJoinCategory(challengeId).orElseThrow(() -> new ChallengeException(ErrorCode.CHALLENGE_NOT_FOUND));
-        List<Long> participantIds = userChallengeRepository.findUserIdByChallengeId(challengeId);
-        List<ChallengeCategory> challengeCategories = challenge.getChallengeCategories();
-        List<Category> categories = challengeCategories.stream().map(ChallengeCategory::getCategory).toList();
+        log.info("순위체크를 시도하는 챌린지 :{}", challengeId);
+        ChallengeLeaderboard leaderboard = getOrLoad(challengeId);
+        rankBroadcaster.sendNow(challengeId, leaderboard.snapshot());
+    }
+
+    /**
+     * 커밋된 지출 한 건을 순위표에 더한다. 같은 순위 이벤트(outbox 키)는 여러 번 들어와도 한 번만 반영된다.
+     * 순위표에 참여자가 빠져 있으면 DB 집계로 다시 적재한 뒤 반영한다.
+     */
+    public void applySpend(Long challengeId, Long userId, String spendKey, long amount) {
+        ChallengeLeaderboard leaderboard = getOrLoad(challengeId);
+        boolean reseeded = false;
+        ApplyResult result;
+
+        while ((result = leaderboard.addSpend(spendKey, userId, amount)) != ApplyResult.APPLIED) {
+            if (result == ApplyResult.UNKNOWN_PARTICIPANT) {
+                if (reseeded) {
+                    log.debug("순위표에 없는 참여자의 지출은 반영하지 않음 : challenge={}, user={}", challengeId, userId);
+
+                    return;
+                }
+
+                reseed(challengeId, leaderboard, loadChallenge(challengeId));
+                reseeded = true;
+            }
+
+            leaderboard = getOrLoad(challengeId);
+        }
+
+        // 연속된 지출은 전송 window 안에서 하나로 합쳐지고, 순위는 실제 전송 시점에 한 번만 계산됨
+        rankBroadcaster.submit(challengeId, leaderboard::snapshot);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void resetRank(ChallengeRankResetEvent event) {
+        resets.merge(event.challengeId(), 1L, Long::sum);
+        discard(event.challengeId());
+    }
+
+    // 지출 수정·삭제처럼 이벤트로 들어오지 않는 변경을 주기적으로 DB 집계에 맞춰 보정
+    @Scheduled(fixedDelayString = "${challenge.rank.repair-interval-ms:600000}")
+    public void repairLeaderboards() {
+        for (Long challengeId : leaderboards.keySet()) {
+            Optional<Challenge> challenge = challengeRepository.findByIdJoinCategory(challengeId);
+
+            if (challenge.isEmpty() || Status.COMPLETED.equals(challenge.get().getStatus())) {
+                discard(challengeId);
+                resets.remove(challengeId);
+                continue;
+            }
+
+            ChallengeLeaderboard current = leaderboards.get(challengeId);
+
+            if (current != null) {
+                reseed(challengeId, current, challenge.get());
+            }
+        }
+    }
+
+    /**
+     * DB 집계는 맵 밖에서 수행해 같은 버킷의 다른 챌린지 조회·갱신을 막지 않는다.
+     * 여러 스레드가 동시에 적재하면 먼저 등록된 순위표를 사용하고, 적재 도중 참여자가 바뀌었으면 다시 적재한다.
+     */
+    private ChallengeLeaderboard getOrLoad(Long challengeId) {
+        while (true) {
+            ChallengeLeaderboard current = leaderboards.get(challengeId);
+
+            if (current != null) {
+
+                return current;
+            }
+
+            long resetCount = resets.getOrDefault(challengeId, 0L);
+            Challenge challenge = loadChallenge(challengeId);
+            ChallengeLeaderboard loaded = transactionTemplate.execute(status -> createLeaderboard(challenge));
+            ChallengeLeaderboard raced = leaderboards.putIfAbsent(challengeId, loaded);
 
-        List<RankResponse> rankResponses = accountBookRepository.findByUserSpendingRanks(participantIds, categories, challenge.getStartDate(), challenge.getEndDate());
-        simpMessagingTemplate.convertAndSend("/sub/challenge/" + challengeId + "/rank", rankResponses);
+            if (raced != null) {
+
+                return raced;
+            }
+
+            if (resets.getOrDefault(challengeId, 0L) == resetCount) {
+
+                return loaded;
+            }
+
+            if (leaderboards.remove(challengeId, loaded)) {
+                loaded.retire();
+            }
+        }
+    }
+
+    /**
+     * 기존 순위표는 그대로 두고 새 순위표를 적재해 교체한다.
+     * 기존 순위표에 반영된 지출 중 새 집계에 포함되지 않은 지출은 교체 후 새 순위표에 다시 반영한다.
+     * 집계와 포함 여부 확인을 한 트랜잭션에서 읽어(REPEATABLE READ) 같은 시점을 기준으로 판단한다.
+     */
+    private void reseed(Long challengeId, ChallengeLeaderboard current, Challenge challenge) {
+        transactionTemplate.execute(status -> {
+            ChallengeLeaderboard fresh = createLeaderboard(challenge);
+
+            // 그 사이 다른 스레드가 먼저 교체했거나 참여자 변경으로 비워졌으면 그쪽 결과를 따름
+            if (leaderboards.replace(challengeId, current, fresh)) {
+                fresh.replay(excludeAggregated(current.retire()));
+            }
+
+            return null;
+        });
+    }
+
+    // 순위 이벤트가 전송 완료로 기록된 지출은 그 전에 반영된 것이므로 집계 시점에 이미 포함되어 있음
+    private List<Spend> excludeAggregated(List<Spend> spends) {
+        if (spends.isEmpty()) {
+
+            return spends;
+        }
+
+        Set<String> aggregated = new HashSet<>(outboxEventRepository.findSettledKeys(spends.stream().map(Spend::key).toList()));
+
+        return spends.stream().filter(spend -> !aggregated.contains(spend.key())).toList();
+    }
+
+    // 비운 순위표에만 반영되고 아직 전송 완료로 기록되지 않은 지출은 다음 보정 때 집계에 포함됨
+    private void discard(Long challengeId) {
+        ChallengeLeaderboard removed = leaderboards.remove(challengeId);
+
+        if (removed != null) {
+            removed.retire();
+        }
+
+        rankBroadcaster.forget(challengeId);
+    }
+
+    private Challenge loadChallenge(Long challengeId) {
+        return challengeRepository.findByIdJoinCategory(challengeId).orElseThrow(() -> new ChallengeException(ErrorCode.CHALLENGE_NOT_FOUND));
+    }
 
+    /**
+     * 참여자별 지출 합계에서 순위 이벤트가 아직 전송되지 않은 지출을 뺀 값으로 적재한다.
+     * 뺀 지출은 이벤트가 전달될 때 더해지므로 집계와 이벤트로 두 번 반영되지 않는다.
+     */
+    private ChallengeLeaderboard createLeaderboard(Challenge challenge) {
+        List<Long> participantIds = userChallengeRepository.findUserIdByChallengeId(challenge.getId());
+        List<Category> categories = challenge.getChallengeCategories().stream().map(ChallengeCategory::getCategory).toList();
+        List<UserSpendTotalResponse> totals = accountBookRepository.findUserSpendingTotals(participantIds, categories, challenge.getStartDate(), challenge.getEndDate());
+        Map<Long, Long> unranked = accountBookRepository.findUnrankedSpends(participantIds, categories, challenge.getStartDate(), challenge.getEndDate()).stream()
+                .collect(Collectors.groupingBy(UserSpendResponse::userId, Collectors.summingLong(UserSpendResponse::amount)));
 
+        return new ChallengeLeaderboard(totals.stream()
+                .map(total -> new UserSpendTotalResponse(total.userId(), total.name(), total.totalSpend() - unranked.getOrDefault(total.userId(), 0L)))
+                .toList());
     }
-}
\ No newline at end of file
+}
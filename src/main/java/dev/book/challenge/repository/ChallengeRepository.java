@@ -8,6 +8,7 @@ import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -57,6 +58,17 @@ public interface ChallengeRepository extends JpaRepository<Challenge, Long>, Cha
     @Query("SELECT c FROM Challenge c WHERE c.id = :id")
     Optional<Challenge> findByIdWithLock(Long id);
 
+    // 모집 중이고 자리가 남아 있을 때만 한 자리를 차지, 반영된 행 수가 0이면 참여 불가
+    @Modifying
+    @Query("""
+                UPDATE Challenge c
+                SET c.currentCapacity = c.currentCapacity + 1, c.version = c.version + 1
+                WHERE c.id = :id
+                  AND c.currentCapacity < c.capacity
+                  AND c.status = 'RECRUITING'
+            """)
+    int reserveSeat(@Param("id") Long id);
+
     @Query("SELECT c FROM Challenge c WHERE c.startDate = :today AND c.status IN :startStatuses")
     List<Challenge> findChallengesToStart(@Param("today") LocalDate today, @Param("startStatuses") List<Status> startStatuses);
 }
@@ -64,11 +64,11 @@ public class ChallengeInviteService {
     public void acceptInvite(Long inviteId, UserEntity user) {
 
         ChallengeInvite challengeInvite = challengeInviteRepository.findByIdAndInviteUserId(inviteId, user.getId()).orElseThrow(() -> new ChallengeException(CHALLENGE_NOT_FOUND_INVITED));
+        // 참여 수 증가는 accept() 에서 영속 상태의 초대 대상자에게 반영되며, 캐시에서 공유되는 인증 정보의 사용자는 변경하지 않음
         challengeInvite.accept();
-        user.plusParticipatingChallenge();
         challengeInviteRepository.delete(challengeInvite);
 
-        UserChallenge userChallenge = UserChallenge.of(user, challengeInvite.getChallenge());
+        UserChallenge userChallenge = UserChallenge.of(challengeInvite.getInviteUser(), challengeInvite.getChallenge());
         log.info("챌린지를 수락 완료 하였습니다.");
         userChallengeRepository.save(userChallenge);
     }
@@ -9,6 +9,7 @@ import dev.book.challenge.dto.request.ChallengeUpdateRequest;
 import dev.book.challenge.dto.response.*;
 import dev.book.challenge.entity.Challenge;
 import dev.book.challenge.exception.ChallengeException;
+import dev.book.challenge.rank.ChallengeRankResetEvent;
 import dev.book.challenge.repository.ChallengeRepository;
 import dev.book.challenge.user_challenge.entity.UserChallenge;
 import dev.book.challenge.user_challenge.repository.UserChallengeRepository;
@@ -20,6 +21,7 @@ import dev.book.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -84,6 +86,7 @@ public class ChallengeService {
         List<Category> categories = categoryRepository.findByCategoryIn(challengeUpdateRequest.categoryList());
         challenge.updateInfo(challengeUpdateRequest, categories);
         challengeRepository.flush();
+        eventPublisher.publishEvent(new ChallengeRankResetEvent(challenge.getId()));
         return ChallengeUpdateResponse.fromEntity(challenge);
     }
 
@@ -120,6 +123,32 @@ public class ChallengeService {
         userEntity.plusParticipatingChallenge();
         UserChallenge userChallenge = UserChallenge.of(userEntity, challenge);
         userChallengeRepository.save(userChallenge);
+        eventPublisher.publishEvent(new ChallengeRankResetEvent(id));
+    }
+
+    // 조건부 UPDATE 한 번으로 자리를 확보해 재시도나 낙관적 락 충돌 없이 참여 처리
+    @Transactional
+    public void participate(UserEntity user, Long id) {
+        UserEntity userEntity = getUser(user);
+        checkExist(user, id);
+
+        if (challengeRepository.reserveSeat(id) == 0) {
+            Challenge challenge = challengeRepository.findById(id).orElseThrow(() -> new ChallengeException(CHALLENGE_NOT_FOUND));
+            challenge.checkAlreadyStartOrEnd();
+            throw new ChallengeException(CHALLENGE_CAPACITY_FULL);
+        }
+
+        userEntity.plusParticipatingChallenge();
+        UserChallenge userChallenge = UserChallenge.of(userEntity, challengeRepository.getReferenceById(id));
+
+        // 존재 확인과 저장 사이에 같은 사용자의 요청이 겹치면 (user_id, challenge_id) 유니크 제약으로 걸러내고, 확보한 자리는 롤백됨
+        try {
+            userChallengeRepository.saveAndFlush(userChallenge);
+        } catch (DataIntegrityViolationException e) {
+            throw new ChallengeException(CHALLENGE_ALREADY_JOINED);
+        }
+
+        eventPublisher.publishEvent(new ChallengeRankResetEvent(id));
     }
 
     @Transactional
@@ -131,6 +160,7 @@ public class ChallengeService {
         userEntity.minusParticipatingChallenge();
         challenge.minusCurrentCapacity();
         userChallengeRepository.deleteByUserIdAndChallengeId(userEntity.getId(), challenge.getId());
+        eventPublisher.publishEvent(new ChallengeRankResetEvent(challenge.getId()));
 
     }
 
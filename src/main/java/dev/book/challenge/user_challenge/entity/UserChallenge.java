@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_challenge_user_challenge", columnNames = {"user_id", "challenge_id"}))
 public class UserChallenge {
 
     @Id
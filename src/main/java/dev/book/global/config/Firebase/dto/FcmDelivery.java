@@ -0,0 +1,4 @@
+package dev.book.global.config.Firebase.dto;
+
+public record FcmDelivery(String token, FcmMessage message) {
+}
@@ -0,0 +1,11 @@
+package dev.book.global.config.Firebase.dto;
+
+import java.util.Map;
+
+// 토큰은 전송 시점에 사용자 ID 로 한 번에 조회함
+public record FcmMessage(Long userId, String title, String body, Map<String, String> data) {
+
+    public static FcmMessage of(Long userId, String title, String body) {
+        return new FcmMessage(userId, title, body, Map.of());
+    }
+}
@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 @Getter
 @RequiredArgsConstructor
 public enum FcmTokenErrorCode implements ErrorCode {
-    NOT_FOUND_FCM_TOKEN(HttpStatus.NOT_FOUND, "토큰을 찾을 수 없습니다.");
+    NOT_FOUND_FCM_TOKEN(HttpStatus.NOT_FOUND, "토큰을 찾을 수 없습니다."),
+    FCM_SEND_FAILED(HttpStatus.BAD_GATEWAY, "FCM 알림 전송에 실패했습니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -2,11 +2,24 @@ package dev.book.global.config.Firebase.repository;
 
 import dev.book.global.config.Firebase.entity.FcmToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
     Optional<FcmToken> findByUserId(Long id);
+
+    List<FcmToken> findAllByUserIdIn(Collection<Long> userIds);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FcmToken f WHERE f.token IN :tokens")
+    int deleteAllByTokenIn(@Param("tokens") Collection<String> tokens);
 }
@@ -0,0 +1,202 @@
+package dev.book.global.config.Firebase.service;
+
+import dev.book.global.config.Firebase.dto.FcmDelivery;
+import dev.book.global.config.Firebase.dto.FcmMessage;
+import dev.book.global.config.Firebase.entity.FcmToken;
+import dev.book.global.config.Firebase.exception.FcmTokenErrorCode;
+import dev.book.global.config.Firebase.exception.FcmTokenErrorException;
+import dev.book.global.config.Firebase.repository.FcmTokenRepository;
+import dev.book.global.config.Firebase.transport.FcmSendResult;
+import dev.book.global.config.Firebase.transport.FcmTransport;
+import dev.book.global.config.bean.FcmSenderProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * FCM 메시지를 대기열에 모았다가 주기마다 sendEach 로 최대 500건씩 보낸다.
+ * 토큰은 배치 단위로 한 번에 조회하고, 일시적인 오류는 백오프 후 해당 메시지만 다시 보내며,
+ * 등록 해제된 토큰은 저장소에서 삭제한다.
+ * <p>
+ * 전달 보장은 대기열에 넣는 시점까지다. outbox 는 enqueue 가 성공하면 전송 완료로 기록하므로,
+ * 그 이후 재시도 횟수를 넘긴 실패나 프로세스 종료로 대기열에 남은 메시지는 다시 보내지 않는다 (best-effort).
+ * 이렇게 잃은 메시지는 fcm.sender{result=failed} 로 집계된다.
+ */
+@Slf4j
+@Component
+public class FcmSender {
+    private final FcmTransport transport;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final FcmSenderProperties properties;
+
+    private final BlockingQueue<FcmMessage> queue;
+    private final ScheduledExecutorService flusher;
+
+    private final Counter sent;
+    private final Counter unregistered;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter noToken;
+    private final Counter rejected;
+    private final Timer batchTimer;
+
+    public FcmSender(FcmTransport transport, FcmTokenRepository fcmTokenRepository,
+                     FcmSenderProperties properties, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.properties = properties;
+        this.queue = new LinkedBlockingQueue<>(properties.getQueueCapacity());
+        this.sent = meterRegistry.counter("fcm.sender", "result", "sent");
+        this.unregistered = meterRegistry.counter("fcm.sender", "result", "unregistered");
+        this.retried = meterRegistry.counter("fcm.sender", "result", "retried");
+        this.failed = meterRegistry.counter("fcm.sender", "result", "failed");
+        this.noToken = meterRegistry.counter("fcm.sender", "result", "no_token");
+        this.rejected = meterRegistry.counter("fcm.sender", "result", "rejected");
+        this.batchTimer = meterRegistry.timer("fcm.sender.batch");
+        meterRegistry.gaugeCollectionSize("fcm.sender.queue.size", List.of(), queue);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("fcm-sender-"));
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, properties.getFlushIntervalMillis(),
+                properties.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 대기열에 넣지 못하면 예외를 던져 outbox 가 다시 시도하게 하고, 넣은 뒤의 전송 결과는 호출한 쪽에 알리지 않음
+    public void enqueue(FcmMessage message) {
+        if (!queue.offer(message)) {
+            rejected.increment();
+
+            throw new FcmTokenErrorException(FcmTokenErrorCode.FCM_SEND_FAILED, "전송 대기열이 가득 찼습니다.");
+        }
+
+        // 한 배치가 모이면 주기를 기다리지 않고 바로 보냄
+        if (properties.isFlushOnFullBatch() && queue.size() >= FcmTransport.MAX_BATCH_SIZE) {
+            try {
+                flusher.execute(this::flushSafely);
+            } catch (RejectedExecutionException e) {
+                log.debug("[FCM] 종료 중이라 즉시 전송을 건너뜀");
+            }
+        }
+    }
+
+    void flush() {
+        List<FcmMessage> batch = new ArrayList<>(FcmTransport.MAX_BATCH_SIZE);
+
+        while (queue.drainTo(batch, FcmTransport.MAX_BATCH_SIZE) > 0) {
+            List<FcmDelivery> deliveries = resolveTokens(batch);
+
+            // 사용자 한 명이 여러 기기를 가진 경우 배치가 500건을 넘을 수 있어 다시 나눔
+            for (int from = 0; from < deliveries.size(); from += FcmTransport.MAX_BATCH_SIZE) {
+                send(deliveries.subList(from, Math.min(from + FcmTransport.MAX_BATCH_SIZE, deliveries.size())), 1);
+            }
+
+            batch.clear();
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[FCM] 알림 전송 중 오류 발생", e);
+        }
+    }
+
+    private List<FcmDelivery> resolveTokens(List<FcmMessage> batch) {
+        List<Long> userIds = batch.stream()
+                .map(FcmMessage::userId)
+                .distinct()
+                .toList();
+        Map<Long, List<String>> tokensByUser = fcmTokenRepository.findAllByUserIdIn(userIds).stream()
+                .collect(Collectors.groupingBy(token -> token.getUser().getId(),
+                        Collectors.mapping(FcmToken::getToken, Collectors.toList())));
+        List<FcmDelivery> deliveries = new ArrayList<>(batch.size());
+
+        for (FcmMessage message : batch) {
+            List<String> tokens = tokensByUser.getOrDefault(message.userId(), List.of());
+
+            if (tokens.isEmpty()) {
+                noToken.increment();
+            }
+
+            tokens.forEach(token -> deliveries.add(new FcmDelivery(token, message)));
+        }
+
+        return deliveries;
+    }
+
+    private void send(List<FcmDelivery> deliveries, int attempt) {
+        List<FcmSendResult> results = batchTimer.record(() -> transport.sendEach(deliveries));
+        List<FcmDelivery> retry = new ArrayList<>();
+        List<String> unregisteredTokens = new ArrayList<>();
+
+        for (int i = 0; i < deliveries.size(); i++) {
+            FcmDelivery delivery = deliveries.get(i);
+
+            switch (results.get(i)) {
+                case SENT -> sent.increment();
+                case UNREGISTERED -> {
+                    unregistered.increment();
+                    unregisteredTokens.add(delivery.token());
+                }
+                case RETRYABLE -> {
+                    if (attempt < properties.getMaxAttempts()) {
+                        retry.add(delivery);
+                    } else {
+                        failed.increment();
+                    }
+                }
+                case FAILED -> failed.increment();
+            }
+        }
+
+        if (!unregisteredTokens.isEmpty()) {
+            int deleted = fcmTokenRepository.deleteAllByTokenIn(unregisteredTokens);
+            log.info("[FCM] 등록 해제된 토큰 {}건 삭제", deleted);
+        }
+
+        if (!retry.isEmpty()) {
+            scheduleRetry(retry, attempt + 1);
+        }
+    }
+
+    // 재시도는 대기하지 않고 예약해서 다른 배치 전송을 막지 않음
+    private void scheduleRetry(List<FcmDelivery> deliveries, int attempt) {
+        retried.increment(deliveries.size());
+        long delay = properties.getBackoffMillis() << Math.min(attempt - 2, 10);
+
+        try {
+            flusher.schedule(() -> {
+                try {
+                    send(deliveries, attempt);
+                } catch (Exception e) {
+                    log.error("[FCM] 알림 재전송 중 오류 발생", e);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            failed.increment(deliveries.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(properties.getFlushIntervalMillis() * 10, TimeUnit.MILLISECONDS);
+        // 남은 메시지는 종료 전에 한 번 더 보냄
+        flushSafely();
+    }
+}
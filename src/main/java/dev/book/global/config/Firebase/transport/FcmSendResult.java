@@ -0,0 +1,10 @@
+package dev.book.global.config.Firebase.transport;
+
+public enum FcmSendResult {
+    SENT,
+    // 앱 삭제 등으로 더 이상 유효하지 않은 토큰, 저장소에서 삭제
+    UNREGISTERED,
+    // 일시적인 오류, 백오프 후 다시 시도
+    RETRYABLE,
+    FAILED
+}
@@ -0,0 +1,15 @@
+package dev.book.global.config.Firebase.transport;
+
+import dev.book.global.config.Firebase.dto.FcmDelivery;
+
+import java.util.List;
+
+public interface FcmTransport {
+    // FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수
+    int MAX_BATCH_SIZE = 500;
+
+    /**
+     * 최대 {@link #MAX_BATCH_SIZE} 건을 한 번에 보내고, 요청과 같은 순서로 결과를 돌려준다.
+     */
+    List<FcmSendResult> sendEach(List<FcmDelivery> deliveries);
+}
@@ -0,0 +1,75 @@
+package dev.book.global.config.Firebase.transport;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import dev.book.global.config.Firebase.dto.FcmDelivery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.transport", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFcmTransport implements FcmTransport {
+
+    @Override
+    public List<FcmSendResult> sendEach(List<FcmDelivery> deliveries) {
+        List<Message> messages = deliveries.stream()
+                .map(this::toMessage)
+                .toList();
+
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+
+            return response.getResponses().stream()
+                    .map(this::toResult)
+                    .toList();
+        } catch (FirebaseMessagingException e) {
+            // 배치 요청 자체가 실패한 경우 모든 메시지에 같은 결과를 적용
+            log.warn("[FCM] 배치 전송 실패 : {}건, {}", deliveries.size(), e.getMessagingErrorCode(), e);
+
+            return Collections.nCopies(deliveries.size(), classify(e.getMessagingErrorCode()));
+        }
+    }
+
+    private Message toMessage(FcmDelivery delivery) {
+        return Message.builder()
+                .setToken(delivery.token())
+                .setNotification(Notification.builder()
+                        .setTitle(delivery.message().title())
+                        .setBody(delivery.message().body())
+                        .build())
+                .putAllData(delivery.message().data())
+                .build();
+    }
+
+    private FcmSendResult toResult(SendResponse response) {
+        if (response.isSuccessful()) {
+
+            return FcmSendResult.SENT;
+        }
+
+        return classify(response.getException().getMessagingErrorCode());
+    }
+
+    private FcmSendResult classify(MessagingErrorCode errorCode) {
+        if (errorCode == null) {
+
+            return FcmSendResult.RETRYABLE;
+        }
+
+        return switch (errorCode) {
+            case UNREGISTERED, SENDER_ID_MISMATCH -> FcmSendResult.UNREGISTERED;
+            case UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED -> FcmSendResult.RETRYABLE;
+            default -> FcmSendResult.FAILED;
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package dev.book.global.config.Firebase.transport;
+
+import dev.book.global.config.Firebase.dto.FcmDelivery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Firebase 없이 부하 테스트를 할 수 있도록 응답을 흉내 내는 전송기.
+ * fcm.transport=stub 일 때 사용되며, 배치당 지연 시간과 오류 비율을 설정할 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.transport", havingValue = "stub")
+public class StubFcmTransport implements FcmTransport {
+
+    @Value("${fcm.stub.latency-ms:50}")
+    private long latencyMillis;
+    @Value("${fcm.stub.unregistered-rate:0.0}")
+    private double unregisteredRate;
+    @Value("${fcm.stub.retryable-rate:0.0}")
+    private double retryableRate;
+
+    @Override
+    public List<FcmSendResult> sendEach(List<FcmDelivery> deliveries) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.debug("[FCM-STUB] {}건 전송", deliveries.size());
+
+        return deliveries.stream()
+                .map(delivery -> randomResult())
+                .toList();
+    }
+
+    private FcmSendResult randomResult() {
+        double value = ThreadLocalRandom.current().nextDouble();
+
+        if (value < unregisteredRate) {
+
+            return FcmSendResult.UNREGISTERED;
+        }
+
+        if (value < unregisteredRate + retryableRate) {
+
+            return FcmSendResult.RETRYABLE;
+        }
+
+        return FcmSendResult.SENT;
+    }
+}
@@ -0,0 +1,27 @@
+package dev.book.global.config.bean;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "event.async")
+public class AsyncEventProperties {
+    // false 면 이벤트를 발행한 스레드에서 바로 처리
+    private boolean enabled = true;
+    // 이벤트 처리 스레드 수
+    private int workers = 4;
+    // 이벤트 타입별 대기열 크기, 가득 차면 발행한 스레드에서 직접 처리
+    private int queueCapacity = 1000;
+    // 이벤트 타입 하나를 동시에 처리할 수 있는 최대 스레드 수
+    private int laneConcurrency = 1;
+    // 다른 대기열의 처리와 같은 행을 고쳐 낙관적 락 충돌이 나면 다시 처리하는 최대 횟수
+    private int optimisticLockRetries = 3;
+    // JDK 21 이상에서만 사용 가능
+    private boolean virtualThreads = false;
+    // 종료 시 남은 이벤트를 처리하기 위해 기다리는 최대 시간
+    private long shutdownTimeoutMillis = 10000;
+}
@@ -0,0 +1,23 @@
+package dev.book.global.config.bean;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "fcm.sender")
+public class FcmSenderProperties {
+    // 대기 중인 메시지를 모아 보내는 주기
+    private long flushIntervalMillis = 200;
+    // 한 배치(500건)가 모이면 주기를 기다리지 않고 바로 보낼지 여부
+    private boolean flushOnFullBatch = true;
+    // 전송 대기열 크기, 가득 차면 대기열에 넣지 못한 요청은 실패하고 outbox 에서 다시 시도됨
+    private int queueCapacity = 10000;
+    // 일시적인 오류에 대한 최대 전송 시도 횟수
+    private int maxAttempts = 3;
+    // 첫 재시도까지의 대기 시간, 이후 두 배씩 증가
+    private long backoffMillis = 500;
+}
@@ -0,0 +1,32 @@
+package dev.book.global.config.bean;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "http.client")
+public class HttpClientProperties {
+    // 전체 커넥션 풀 크기
+    private int maxTotal = 100;
+    // 호스트별 기본 최대 커넥션 수
+    private int maxPerRoute = 20;
+    // 호스트별 최대 커넥션 수 (호스트명 -> 커넥션 수), https 443 기준
+    private Map<String, Integer> routes = new HashMap<>();
+    private long connectTimeoutMillis = 3000;
+    private long readTimeoutMillis = 10000;
+    // 풀에서 커넥션을 빌려오기까지 대기하는 최대 시간
+    private long connectionRequestTimeoutMillis = 2000;
+    // 이 시간 이상 사용되지 않은 커넥션은 정리
+    private long idleEvictSeconds = 30;
+    // 커넥션 최대 수명
+    private long timeToLiveSeconds = 300;
+    // 재사용 전 커넥션 유효성을 확인하는 유휴 시간
+    private long validateAfterInactivityMillis = 2000;
+}
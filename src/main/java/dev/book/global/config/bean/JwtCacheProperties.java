@@ -0,0 +1,19 @@
+package dev.book.global.config.bean;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "security.jwt-cache")
+public class JwtCacheProperties {
+    // 검증을 마친 토큰을 보관해 서명 검증과 클레임 파싱을 건너뛸지 여부
+    private boolean enabled = true;
+    // 보관할 최대 토큰 수
+    private long maximumSize = 10000;
+    // 토큰을 보관하는 최대 시간, 토큰 만료 시각이 더 이르면 만료 시각까지만 사용
+    private long ttlSeconds = 300;
+}
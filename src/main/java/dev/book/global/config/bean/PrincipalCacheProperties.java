@@ -0,0 +1,17 @@
+package dev.book.global.config.bean;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "security.principal-cache")
+public class PrincipalCacheProperties {
+    // 인증된 사용자 정보를 보관하는 시간, 다른 경로로 바뀐 사용자 정보는 최대 이 시간만큼 늦게 반영됨
+    private long ttlSeconds = 30;
+    // 보관할 최대 사용자 수
+    private long maximumSize = 10000;
+}
@@ -1,14 +1,101 @@
 package dev.book.global.config.bean;
 
+import dev.book.global.util.HttpRequestAborter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+
+/**
+ * 외부 연동(Codef 등)에서 공유하는 커넥션 풀 기반 HTTP 클라이언트.
+ * 풀 사용량은 httpcomponents.httpclient.pool.*, 요청 지연은 http.client.requests 로 수집된다.
+ */
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
+    private final HttpClientProperties properties;
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public PoolingHttpClientConnectionManager httpClientConnectionManager(MeterRegistry meterRegistry) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeoutMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeoutMillis()))
+                .setTimeToLive(TimeValue.ofSeconds(properties.getTimeToLiveSeconds()))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(properties.getValidateAfterInactivityMillis()))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getMaxPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        properties.getRoutes().forEach((host, max) ->
+                connectionManager.setMaxPerRoute(new HttpRoute(new HttpHost("https", host, 443), null, true), max));
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "outbound").bindTo(meterRegistry);
+
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeoutMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(properties.getReadTimeoutMillis()))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(properties.getIdleEvictSeconds()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient) {
+        // RestTemplateBuilder 로 생성해야 http.client.requests 지표가 자동으로 등록됨
+        return builder
+                .requestFactory(() -> new AbortableRequestFactory(httpClient))
+                .build();
+    }
+
+    // 생성된 요청을 HttpRequestAborter 에 등록해 호출 측 제한 시간이 지나면 진행 중인 읽기까지 중단할 수 있게 함
+    static class AbortableRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+        AbortableRequestFactory(CloseableHttpClient httpClient) {
+            super(httpClient);
+        }
+
+        @Override
+        protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+            ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+
+            if (request instanceof Cancellable cancellable) {
+                HttpRequestAborter.register(cancellable);
+            }
+
+            return request;
+        }
     }
 }
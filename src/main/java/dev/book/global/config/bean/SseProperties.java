@@ -0,0 +1,25 @@
+package dev.book.global.config.bean;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "sse")
+public class SseProperties {
+    // 브로드캐스트 전송 스레드 수
+    private int broadcastWorkers = 8;
+    // 전송 대기 중인 작업 수 상한, 넘치면 해당 연결에 대한 전송은 버림
+    private int broadcastQueueCapacity = 10000;
+    // 연결 하나에 대한 전송 제한 시간, 넘기면 느린 연결로 보고 끊음
+    private long sendTimeoutMillis = 3000;
+    // 하트비트(주석 프레임) 전송 주기, 끊긴 연결은 이 전송이 실패하거나 제한 시간을 넘기면서 정리됨
+    private long heartbeatIntervalMillis = 15000;
+    // emitter 최대 유지 시간
+    private long emitterTimeoutMillis = 60L * 1000 * 60;
+    // 유저 한 명이 동시에 유지할 수 있는 최대 연결 수, 넘으면 가장 오래된 연결을 끊음
+    private int maxEmittersPerUser = 5;
+}
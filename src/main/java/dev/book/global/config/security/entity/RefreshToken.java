@@ -3,28 +3,46 @@ package dev.book.global.config.security.entity;
 import dev.book.user.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
+/**
+ * 로그인한 기기(세션)마다 하나씩 현재 리프레시 토큰의 해시를 보관한다.
+ * 직전 토큰의 해시도 남겨 두어 이미 교체된 토큰이 다시 쓰이면 탈취로 보고 세션을 끊는다.
+ */
 @Entity
+@Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refresh_token",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash"),
+                @UniqueConstraint(name = "uk_refresh_token_user_session", columnNames = {"user_id", "session_id"})
+        },
+        indexes = {
+                @Index(name = "idx_refresh_token_previous_hash", columnList = "previous_token_hash"),
+                @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+        })
 public class RefreshToken {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    private String refreshToken;
 
-    @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
 
-    public RefreshToken(UserEntity user, String refreshToken) {
-        this.user = user;
-        this.refreshToken = refreshToken;
-    }
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
 
+    @Column(name = "previous_token_hash", length = 64)
+    private String previousTokenHash;
 
-    public void updateToken(String refreshToken) {
-        this.refreshToken =refreshToken;
-    }
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
 }
@@ -11,7 +11,8 @@ public enum AuthErrorCode implements ErrorCode {
 
     UNVALIDATED_PROVIDER(HttpStatus.FORBIDDEN, "지원하지 않는 공급자입니다."),
     INVALID_JWT_TOKEN(HttpStatus.UNAUTHORIZED,"존재하지 않거나 잘못된 JWT 토큰 형식입니다."),
-    EXPIRED_JWT_TOKEN(HttpStatus.UNAUTHORIZED, "JWT 토큰이 만료되었습니다.");
+    EXPIRED_JWT_TOKEN(HttpStatus.UNAUTHORIZED, "JWT 토큰이 만료되었습니다."),
+    REUSED_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
 
     private final HttpStatus status;
     private final String message;
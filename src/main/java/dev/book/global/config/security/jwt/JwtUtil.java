@@ -1,12 +1,19 @@
 package dev.book.global.config.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.book.global.config.bean.JwtCacheProperties;
 import dev.book.global.config.security.dto.TokenDto;
 import dev.book.global.config.security.service.refresh.RefreshTokenService;
 import dev.book.global.config.security.util.CookieUtil;
+import dev.book.global.config.security.util.TokenHashUtil;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -17,7 +24,11 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -37,30 +48,50 @@ public class JwtUtil {
     private long REFRESH_TOKEN_EXPIRATION;
     private final String ACCESS_TOKEN = "access_token";
     private final String REFRESH_TOKEN = "refresh_token";
+    // 리프레시 토큰이 속한 로그인 세션(기기)
+    private final String SESSION_ID = "sid";
     private Key SECRET_KEY;
+    // 파서는 스레드 안전하므로 하나를 만들어 재사용
+    private JwtParser jwtParser;
+    // 토큰 해시 -> 검증 결과
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     private final RefreshTokenService refreshTokenService;
+    private final JwtCacheProperties jwtCacheProperties;
+    private final MeterRegistry meterRegistry;
 
     @PostConstruct
     protected void init() {
         SECRET_KEY = Keys.hmacShaKeyFor(secret.getBytes());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(SECRET_KEY)
+                .build();
+
+        if (jwtCacheProperties.isEnabled()) {
+            verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(jwtCacheProperties.getMaximumSize())
+                    .expireAfterWrite(Duration.ofSeconds(jwtCacheProperties.getTtlSeconds()))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt");
+        }
     }
 
     /**
-     * access + refresh 토큰 생성
+     * 새 로그인 세션의 access + refresh 토큰 생성
      * @param authentication
      * @return
      */
     public TokenDto generateToken(HttpServletResponse response, Authentication authentication){
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+        String authorities = getAuthorities(authentication);
+        String sessionId = UUID.randomUUID().toString();
+        Date refreshExpiration = refreshExpiration();
 
         String accessToken = generateAccessToken(authorities, authentication.getName());
-        String refreshToken = generateRefreshToken(authorities, authentication.getName());
+        String refreshToken = generateRefreshToken(authorities, authentication.getName(), sessionId, refreshExpiration);
 
         //refreshToken 저장
-        refreshTokenService.saveAndUpdateRefreshToken(authentication.getName(), refreshToken);
+        refreshTokenService.saveRefreshToken(authentication.getName(), sessionId, refreshToken, toLocalDateTime(refreshExpiration));
 
         TokenDto tokenDto = new TokenDto(accessToken, refreshToken);
         addTokenInCookie(response, tokenDto);
@@ -68,10 +99,30 @@ public class JwtUtil {
         return tokenDto;
     }
 
+    /**
+     * 같은 세션으로 access + refresh 토큰을 다시 발급하고, 제시된 refresh 토큰은 더 이상 쓸 수 없게 교체
+     * @param authentication
+     * @param refreshToken 검증을 마친 refresh 토큰
+     * @return
+     */
+    public TokenDto rotateToken(HttpServletResponse response, Authentication authentication, String refreshToken){
+        String authorities = getAuthorities(authentication);
+        String sessionId = parse(refreshToken).get(SESSION_ID, String.class);
+        Date refreshExpiration = refreshExpiration();
+
+        String accessToken = generateAccessToken(authorities, authentication.getName());
+        String nextRefreshToken = generateRefreshToken(authorities, authentication.getName(), sessionId, refreshExpiration);
+
+        refreshTokenService.rotateRefreshToken(refreshToken, nextRefreshToken, toLocalDateTime(refreshExpiration));
+
+        TokenDto tokenDto = new TokenDto(accessToken, nextRefreshToken);
+        addTokenInCookie(response, tokenDto);
+
+        return tokenDto;
+    }
+
     public void generateAccessToken(HttpServletResponse response, Authentication authentication){
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+        String authorities = getAuthorities(authentication);
 
         String accessToken = generateAccessToken(authorities, authentication.getName());
 
@@ -89,32 +140,70 @@ public class JwtUtil {
                 .compact();
     }
 
-    private String generateRefreshToken(String authorities, String authName){
-        Date now = new Date();
+    private String generateRefreshToken(String authorities, String authName, String sessionId, Date expiration){
         return Jwts.builder()
                 .setSubject(authName)
                 .claim("auth", authorities)
-                .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + REFRESH_TOKEN_EXPIRATION * 1000))
+                .claim(SESSION_ID, sessionId)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
                 .signWith(SECRET_KEY, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    private Date refreshExpiration() {
+        return new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION * 1000);
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+
+    private static String getAuthorities(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+    }
+
     /**
      * 정상적인 토큰이라면 Subject 반환
+     * 이미 검증한 토큰은 만료 전까지 서명 검증과 클레임 파싱 없이 캐시된 결과를 사용
      * @param token
      * @return user의 email
      */
     public String validateToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        if (verifiedTokens == null || token == null || token.isBlank()) {
+
+            return parse(token).getSubject();
+        }
+
+        String key = TokenHashUtil.sha256(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(key);
+
+        if (verified != null) {
+            if (System.currentTimeMillis() < verified.expiresAt()) {
+
+                return verified.subject();
+            }
+
+            // 만료된 토큰은 파서가 ExpiredJwtException 을 던지도록 다시 검증
+            verifiedTokens.invalidate(key);
+        }
+
+        Claims claims = parse(token);
+
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(key, new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime()));
+        }
 
         return claims.getSubject();
     }
 
+    private Claims parse(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
     public String getRefreshToken(HttpServletRequest request){
         return CookieUtil.getCookie(request, REFRESH_TOKEN);
     }
@@ -132,5 +221,7 @@ public class JwtUtil {
         CookieUtil.deleteCookie(request, response, REFRESH_TOKEN);
         CookieUtil.deleteCookie(request, response, ACCESS_TOKEN);
     }
-}
 
+    private record VerifiedToken(String subject, long expiresAt) {
+    }
+}
@@ -3,14 +3,49 @@ package dev.book.global.config.security.repository;
 import dev.book.global.config.security.entity.RefreshToken;
 import dev.book.user.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByUser(UserEntity user);
+    // 사용자 조회와 저장을 한 번에 처리, 같은 세션이 있으면 토큰만 교체. 사용자가 없으면 0 을 반환
+    @Modifying
+    @Query(value = """
+            INSERT INTO refresh_token (user_id, session_id, token_hash, expires_at)
+            SELECT u.id, :sessionId, :tokenHash, :expiresAt FROM user_entity u WHERE u.email = :email
+            ON DUPLICATE KEY UPDATE previous_token_hash = token_hash, token_hash = VALUES(token_hash), expires_at = VALUES(expires_at)
+            """, nativeQuery = true)
+    int upsert(@Param("email") String email, @Param("sessionId") String sessionId,
+               @Param("tokenHash") String tokenHash, @Param("expiresAt") LocalDateTime expiresAt);
 
-    void deleteByUser(UserEntity user);
+    // 제시된 토큰이 현재 토큰이고 만료되지 않은 경우에만 교체, 동시에 같은 토큰으로 요청해도 한 요청만 성공
+    @Modifying
+    @Query("""
+            UPDATE RefreshToken r SET r.previousTokenHash = r.tokenHash, r.tokenHash = :nextHash, r.expiresAt = :expiresAt
+            WHERE r.tokenHash = :presentedHash AND r.expiresAt > :now
+            """)
+    int rotate(@Param("presentedHash") String presentedHash, @Param("nextHash") String nextHash,
+               @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    // 이미 교체된 토큰을 다시 쓴 세션을 끊음, 삭제된 행이 있으면 재사용으로 판단
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.previousTokenHash = :tokenHash")
+    int deleteByPreviousTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user = :user")
+    int deleteAllByUser(@Param("user") UserEntity user);
+
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBefore(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -0,0 +1,36 @@
+package dev.book.global.config.security.scheduler;
+
+import dev.book.global.config.security.service.refresh.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenScheduler {
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * 만료된 리프레시 토큰을 나눠서 삭제한다. 한 번에 지우면 잠금이 길어져 로그인 요청이 밀릴 수 있다.
+     */
+    @Scheduled(cron = "${auth.refresh-token.sweep-cron:0 30 4 * * *}")
+    public void deleteExpiredRefreshTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+
+        do {
+            deleted = refreshTokenService.deleteExpiredRefreshTokens(now, DELETE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == DELETE_BATCH_SIZE);
+
+        log.info("[Auth] 만료된 리프레시 토큰 {}건 삭제", total);
+    }
+}
@@ -35,6 +35,7 @@ public class AuthService {
     private final RefreshTokenService refreshTokenService;
     private final UserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
+    private final PrincipalCache principalCache;
 
     /**
      * 유저의 회원가입을 진행합니다.
@@ -51,9 +52,9 @@ public class AuthService {
 
         userService.validateNickname(userSignupRequest.nickname());
         updateNickNameAndCategory(user, userSignupRequest);
+        principalCache.invalidate(email);
 
-        TokenDto tokenDto = getTokenDto(response, authentication);
-        refreshTokenService.saveAndUpdateRefreshToken(user, tokenDto.refreshToken());
+        getTokenDto(response, authentication);
     }
 
     private void updateNickNameAndCategory(UserEntity user, UserSignUpRequest userSignupRequest) {
@@ -74,17 +75,19 @@ public class AuthService {
     }
 
     /**
-     * RefreshToken 삭제
+     * 현재 세션의 RefreshToken 삭제
      * @param userDetails
      */
     @Transactional
     public void logout(HttpServletRequest request, HttpServletResponse response, CustomUserDetails userDetails) {
+        refreshTokenService.deleteRefreshToken(jwtUtil.getRefreshToken(request));
         jwtUtil.deleteAccessTokenAndRefreshToken(request, response); //쿠키에서 refreshToken 지우기
-        refreshTokenService.deleteRefreshToken(userDetails.user());
+        principalCache.invalidate(userDetails.getUsername());
     }
 
     /**
      * refreshToken을 통한 accessToken 재발급
+     * refreshToken도 함께 교체하며, 이미 교체된 refreshToken이 다시 사용되면 해당 세션을 종료
      *
      * @param request
      * @param response
@@ -98,7 +101,7 @@ public class AuthService {
                     .orElseThrow(() -> new UserErrorException(UserErrorCode.USER_NOT_FOUND));
 
             Authentication authentication = getAuthentication(user);
-            jwtUtil.generateAccessToken(response, authentication);
+            jwtUtil.rotateToken(response, authentication, refreshToken);
         } catch (ExpiredJwtException e){
             throw new AuthException(AuthErrorCode.EXPIRED_JWT_TOKEN);
         } catch (MalformedJwtException | JwtException | IllegalArgumentException e) {
@@ -0,0 +1,51 @@
+package dev.book.global.config.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.book.global.config.bean.PrincipalCacheProperties;
+import dev.book.global.config.security.dto.CustomUserDetails;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 토큰 검증 후 매 요청마다 사용자를 조회하지 않도록 이메일별 인증 사용자 정보를 짧게 보관한다.
+ * 사용자 정보가 바뀌거나 삭제, 로그아웃되면 바로 지우고, 트랜잭션 안이라면 커밋 후 한 번 더 지운다.
+ */
+@Component
+public class PrincipalCache {
+    private final Cache<String, CustomUserDetails> cache;
+
+    public PrincipalCache(PrincipalCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+                .maximumSize(properties.getMaximumSize())
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions 등으로 적중률 확인
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal");
+    }
+
+    public CustomUserDetails get(String email, Function<String, CustomUserDetails> loader) {
+        return cache.get(email, loader);
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(email);
+
+        // 커밋 전에 다른 요청이 이전 값으로 다시 채울 수 있어 커밋 후에도 지움
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(email);
+                }
+            });
+        }
+    }
+}
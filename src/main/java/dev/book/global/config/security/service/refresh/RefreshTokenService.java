@@ -1,39 +1,99 @@
 package dev.book.global.config.security.service.refresh;
 
-import dev.book.global.config.security.entity.RefreshToken;
+import dev.book.global.config.security.exception.AuthErrorCode;
+import dev.book.global.config.security.exception.AuthException;
 import dev.book.global.config.security.repository.RefreshTokenRepository;
+import dev.book.global.config.security.util.TokenHashUtil;
 import dev.book.user.entity.UserEntity;
 import dev.book.user.exception.UserErrorCode;
 import dev.book.user.exception.UserErrorException;
-import dev.book.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰은 원문 대신 해시로 세션마다 저장한다.
+ * 발급과 교체는 각각 쿼리 한 번으로 처리하고, 이미 교체된 토큰이 다시 쓰이면 해당 세션을 끊는다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
-    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Transactional
+    public void saveRefreshToken(String email, String sessionId, String refreshToken, LocalDateTime expiresAt) {
+        int affected = refreshTokenRepository.upsert(email, sessionId, TokenHashUtil.sha256(refreshToken), expiresAt);
+
+        if (affected == 0) {
+            throw new UserErrorException(UserErrorCode.USER_NOT_FOUND);
+        }
+
+        count("issued");
+    }
+
+    /**
+     * 제시된 리프레시 토큰을 새 토큰으로 교체합니다.
+     * 이미 교체된 토큰이라면 세션을 끊고, 알 수 없는 토큰이라면 거부합니다.
+     */
+    @Transactional(noRollbackFor = AuthException.class)
+    public void rotateRefreshToken(String presentedToken, String nextToken, LocalDateTime expiresAt) {
+        String presentedHash = TokenHashUtil.sha256(presentedToken);
+        int rotated = refreshTokenRepository.rotate(presentedHash, TokenHashUtil.sha256(nextToken), expiresAt, LocalDateTime.now());
+
+        if (rotated == 1) {
+            count("rotated");
+
+            return;
+        }
 
+        if (refreshTokenRepository.deleteByPreviousTokenHash(presentedHash) > 0) {
+            count("reused");
+            log.warn("[Auth] 이미 교체된 리프레시 토큰이 재사용되어 세션을 종료합니다.");
+
+            throw new AuthException(AuthErrorCode.REUSED_REFRESH_TOKEN);
+        }
+
+        count("invalid");
+
+        throw new AuthException(AuthErrorCode.INVALID_JWT_TOKEN);
+    }
+
+    /**
+     * 현재 세션의 리프레시 토큰만 삭제
+     * @param refreshToken
+     */
     @Transactional
-    public void saveAndUpdateRefreshToken(String email, String refreshToken){
-        UserEntity user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserErrorException(UserErrorCode.USER_NOT_FOUND));
+    public void deleteRefreshToken(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
 
-        saveAndUpdateRefreshToken(user, refreshToken);
+            return;
+        }
+
+        refreshTokenRepository.deleteByTokenHash(TokenHashUtil.sha256(refreshToken));
     }
 
-    public void saveAndUpdateRefreshToken(UserEntity user, String refreshToken){
-        RefreshToken refreshTokenEntity = refreshTokenRepository.findByUser(user)
-                .orElseGet(() -> new RefreshToken(user ,refreshToken));
-        refreshTokenEntity.updateToken(refreshToken);
-        refreshTokenRepository.save(refreshTokenEntity);
+    /**
+     * 유저의 모든 세션의 리프레시 토큰 삭제
+     * @param user
+     */
+    @Transactional
+    public void deleteRefreshToken(UserEntity user) {
+        refreshTokenRepository.deleteAllByUser(user);
     }
 
     @Transactional
-    public void deleteRefreshToken(UserEntity user){
-        refreshTokenRepository.deleteByUser(user);
+    public int deleteExpiredRefreshTokens(LocalDateTime now, int limit) {
+        return refreshTokenRepository.deleteExpiredBefore(now, limit);
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("auth.refresh_token", "result", result).increment();
     }
 }
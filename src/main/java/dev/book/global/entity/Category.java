@@ -1,6 +1,7 @@
 package dev.book.global.entity;
 
 import dev.book.challenge.ChallengeCategory;
+import dev.book.global.repository.CategoryChangeListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -12,6 +13,7 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(CategoryChangeListener.class)
 public class Category {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
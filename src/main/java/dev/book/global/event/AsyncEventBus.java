@@ -0,0 +1,227 @@
+package dev.book.global.event;
+
+import dev.book.global.config.bean.AsyncEventProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커밋 이후 처리할 이벤트를 타입별 대기열에 넣고 전용 스레드 풀에서 처리한다.
+ * 대기열이 가득 차면 이벤트를 버리지 않고 발행한 스레드에서 직접 처리해 속도를 늦춘다.
+ * 대기열이 다르면 같은 사용자의 이벤트도 동시에 처리되므로, 낙관적 락 충돌로 롤백된 처리는 처음부터 다시 실행한다.
+ */
+@Slf4j
+@Component
+public class AsyncEventBus {
+    private static final String METRIC_PREFIX = "event.async";
+
+    private final AsyncEventProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    // 이벤트 타입 -> 대기열
+    private final Map<Class<?>, EventLane> lanes = new ConcurrentHashMap<>();
+    // 대기 중이거나 처리 중인 이벤트 수
+    private final AtomicLong outstanding = new AtomicLong();
+
+    public AsyncEventBus(AsyncEventProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        // 대기열마다 처리 작업은 laneConcurrency 개까지만 올라가므로 작업 큐는 사실상 대기열 수로 제한됨
+        this.executor = new ThreadPoolExecutor(properties.getWorkers(), properties.getWorkers(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory(properties));
+        Gauge.builder(METRIC_PREFIX + ".outstanding", outstanding, AtomicLong::get).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public void dispatch(Class<?> eventType, String handler, EventTask task) {
+        if (!properties.isEnabled() || executor.isShutdown()) {
+            run(handler, task);
+
+            return;
+        }
+
+        lanes.computeIfAbsent(eventType, EventLane::new).offer(handler, task);
+    }
+
+    /**
+     * 대기 중인 이벤트가 모두 처리될 때까지 기다린다. 처리 도중 발행된 이벤트도 포함한다.
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (outstanding.get() > 0) {
+            if (System.nanoTime() > deadline) {
+
+                return false;
+            }
+
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+
+        return true;
+    }
+
+    public int queued(Class<?> eventType) {
+        EventLane lane = lanes.get(eventType);
+
+        return lane == null ? 0 : lane.queue.size();
+    }
+
+    private void run(String handler, EventTask task) {
+        try {
+            runWithRetry(task);
+        } catch (Throwable e) {
+            log.error("[Event] 이벤트 처리 실패 : {}", handler, e);
+        }
+    }
+
+    // 충돌한 트랜잭션은 이미 롤백되었으므로 처리 전체를 다시 실행해도 한 번만 반영됨
+    private void runWithRetry(EventTask task) throws Throwable {
+        int retries = properties.getOptimisticLockRetries();
+
+        while (true) {
+            try {
+                task.run();
+
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (retries-- <= 0) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static ThreadFactory threadFactory(AsyncEventProperties properties) {
+        if (properties.isVirtualThreads()) {
+            try {
+                return new VirtualThreadTaskExecutor("domain-event-").getVirtualThreadFactory();
+            } catch (UnsupportedOperationException e) {
+                log.warn("[Event] 현재 JDK 에서는 가상 스레드를 사용할 수 없어 플랫폼 스레드를 사용합니다.");
+            }
+        }
+
+        return new CustomizableThreadFactory("domain-event-");
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+
+        if (!awaitIdle(Duration.ofMillis(properties.getShutdownTimeoutMillis()))) {
+            log.warn("[Event] 처리하지 못한 이벤트 {}건을 남기고 종료합니다.", outstanding.get());
+        }
+
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface EventTask {
+        void run() throws Throwable;
+    }
+
+    private record QueuedEvent(String handler, EventTask task, long enqueuedAt) {
+    }
+
+    private class EventLane {
+        private final BlockingQueue<QueuedEvent> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        private final AtomicInteger drainers = new AtomicInteger();
+        private final Counter processed;
+        private final Counter rejected;
+        private final Counter failed;
+        private final Timer waitTime;
+
+        private EventLane(Class<?> eventType) {
+            String type = eventType.getSimpleName();
+            this.processed = meterRegistry.counter(METRIC_PREFIX + ".processed", "type", type);
+            this.rejected = meterRegistry.counter(METRIC_PREFIX + ".rejected", "type", type);
+            this.failed = meterRegistry.counter(METRIC_PREFIX + ".failed", "type", type);
+            this.waitTime = meterRegistry.timer(METRIC_PREFIX + ".wait", "type", type);
+            Gauge.builder(METRIC_PREFIX + ".queue.size", queue, BlockingQueue::size).tag("type", type).register(meterRegistry);
+        }
+
+        private void offer(String handler, EventTask task) {
+            outstanding.incrementAndGet();
+
+            if (!queue.offer(new QueuedEvent(handler, task, System.nanoTime()))) {
+                // 역압력: 발행한 스레드가 직접 처리
+                rejected.increment();
+                execute(handler, task);
+
+                return;
+            }
+
+            schedule();
+        }
+
+        private void schedule() {
+            while (true) {
+                int current = drainers.get();
+
+                if (current >= properties.getLaneConcurrency() || queue.isEmpty()) {
+
+                    return;
+                }
+
+                if (drainers.compareAndSet(current, current + 1)) {
+                    try {
+                        executor.execute(this::drain);
+                    } catch (RejectedExecutionException e) {
+                        // 종료 중이면 남은 이벤트를 현재 스레드에서 처리
+                        drain();
+                    }
+
+                    return;
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                QueuedEvent event;
+
+                while ((event = queue.poll()) != null) {
+                    waitTime.record(System.nanoTime() - event.enqueuedAt(), TimeUnit.NANOSECONDS);
+                    execute(event.handler(), event.task());
+                }
+            } finally {
+                drainers.decrementAndGet();
+                // 빠져나오는 사이에 들어온 이벤트가 있으면 다시 처리 작업을 올림
+                schedule();
+            }
+        }
+
+        private void execute(String handler, EventTask task) {
+            try {
+                runWithRetry(task);
+                processed.increment();
+            } catch (Throwable e) {
+                failed.increment();
+                log.error("[Event] 이벤트 처리 실패 : {}", handler, e);
+            } finally {
+                outstanding.decrementAndGet();
+            }
+        }
+    }
+}
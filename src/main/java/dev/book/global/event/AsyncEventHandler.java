@@ -0,0 +1,15 @@
+package dev.book.global.event;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 이벤트 리스너를 요청 스레드가 아닌 {@link AsyncEventBus} 의 작업 스레드에서 실행한다.
+ * 첫 번째 파라미터의 타입별로 대기열이 나뉘며, 같은 메서드의 {@code @Transactional} 은 작업 스레드에서 시작된다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AsyncEventHandler {
+}
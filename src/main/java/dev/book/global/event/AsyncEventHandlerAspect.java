@@ -0,0 +1,27 @@
+package dev.book.global.event;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 트랜잭션 어드바이스보다 바깥에서 실행되어야 REQUIRES_NEW 트랜잭션이 작업 스레드에서 열림
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AsyncEventHandlerAspect {
+    private final AsyncEventBus eventBus;
+
+    @Around("@annotation(dev.book.global.event.AsyncEventHandler)")
+    public Object dispatch(ProceedingJoinPoint joinPoint) {
+        Object event = joinPoint.getArgs()[0];
+        String handler = joinPoint.getSignature().toShortString();
+        eventBus.dispatch(event.getClass(), handler, joinPoint::proceed);
+
+        return null;
+    }
+}
@@ -0,0 +1,4 @@
+package dev.book.global.outbox.dto;
+
+public record SpendRankingOutboxPayload(Long accountBookId) {
+}
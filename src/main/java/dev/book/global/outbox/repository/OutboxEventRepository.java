@@ -0,0 +1,66 @@
+package dev.book.global.outbox.repository;
+
+import dev.book.global.outbox.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 같은 키가 이미 있으면 무시되어 0 을 반환
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO outbox_event (event_type, idempotency_key, payload, status, attempts, next_attempt_at, created_at)
+            VALUES (:eventType, :idempotencyKey, :payload, 'PENDING', 0, :nextAttemptAt, :createdAt)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("eventType") String eventType, @Param("idempotencyKey") String idempotencyKey,
+                     @Param("payload") String payload, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                     @Param("createdAt") LocalDateTime createdAt);
+
+    // 여러 인스턴스가 동시에 폴링해도 같은 행을 가져가지 않도록 잠긴 행은 건너뜀
+    @Query(value = """
+            SELECT id FROM outbox_event
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> findDueIdsForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent o SET o.nextAttemptAt = :leaseUntil WHERE o.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 커밋 직후 빠른 경로용, 폴러가 이미 가져간(lease 중인) 행과 잠긴 행은 건너뜀
+    @Query(value = """
+            SELECT id FROM outbox_event
+            WHERE idempotency_key IN (:keys) AND status = 'PENDING' AND next_attempt_at <= :now
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> findDueIdsByKeysForUpdate(@Param("keys") Collection<String> keys, @Param("now") LocalDateTime now);
+
+    // 전송이 끝났거나 실패로 정리된 이벤트의 키
+    @Query("SELECT o.idempotencyKey FROM OutboxEvent o WHERE o.idempotencyKey IN :keys AND o.status <> dev.book.global.outbox.type.OutboxStatus.PENDING")
+    List<String> findSettledKeys(@Param("keys") Collection<String> keys);
+
+    // lease 가 만료되어 다른 폴러가 다시 가져간 행은 next_attempt_at 이 바뀌었으므로 갱신하지 않고 0 을 반환
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent o
+            SET o.status = :#{#event.status}, o.attempts = :#{#event.attempts}, o.nextAttemptAt = :#{#event.nextAttemptAt},
+                o.lastError = :#{#event.lastError}, o.publishedAt = :#{#event.publishedAt}
+            WHERE o.id = :#{#event.id} AND o.nextAttemptAt = :leaseUntil
+            """)
+    int updateIfLeased(@Param("event") OutboxEvent event, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.status = dev.book.global.outbox.type.OutboxStatus.PUBLISHED AND o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
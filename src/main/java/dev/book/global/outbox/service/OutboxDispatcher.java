@@ -0,0 +1,65 @@
+package dev.book.global.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.book.accountbook.dto.event.CreateTransEvent;
+import dev.book.accountbook.repository.AccountBookRepository;
+import dev.book.achievement.dto.event.GetAchievementEvent;
+import dev.book.achievement.repository.AchievementRepository;
+import dev.book.achievement.service.AchievementService;
+import dev.book.challenge.SpendEventListener;
+import dev.book.challenge.rank.SpendCreatedRankingEvent;
+import dev.book.global.config.Firebase.dto.LimitWarningFcmEvent;
+import dev.book.global.config.Firebase.service.FCMService;
+import dev.book.global.outbox.dto.AchievementOutboxPayload;
+import dev.book.global.outbox.dto.CreateTransOutboxPayload;
+import dev.book.global.outbox.dto.SpendRankingOutboxPayload;
+import dev.book.global.outbox.entity.OutboxEvent;
+import dev.book.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * outbox 에 저장된 payload 를 다시 이벤트로 만들어 기존 처리 로직에 넘긴다.
+ * 그 사이 삭제된 대상은 보낼 것이 없으므로 건너뛴다.
+ * 알림 이벤트는 {@link dev.book.global.config.Firebase.service.FcmSender} 대기열에 들어가면 전송 완료로 기록되며, 이후 FCM 전송은 best-effort 이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+    private final ObjectMapper objectMapper;
+    private final AchievementRepository achievementRepository;
+    private final UserRepository userRepository;
+    private final AccountBookRepository accountBookRepository;
+    private final AchievementService achievementService;
+    private final FCMService fcmService;
+    private final SpendEventListener spendEventListener;
+
+    public void dispatch(OutboxEvent event) throws JsonProcessingException {
+        Object payload = objectMapper.readValue(event.getPayload(), event.getEventType().getPayloadType());
+
+        switch (event.getEventType()) {
+            case ACHIEVEMENT_NOTIFICATION -> {
+                AchievementOutboxPayload achievement = (AchievementOutboxPayload) payload;
+                achievementRepository.findById(achievement.achievementId()).ifPresentOrElse(
+                        found -> achievementService.handleFcmAchievementNotification(new GetAchievementEvent(found, achievement.userId())),
+                        () -> skip(event));
+            }
+            case LIMIT_WARNING_NOTIFICATION -> fcmService.handleLimitWarningFcmEvent((LimitWarningFcmEvent) payload);
+            case CREATE_TRANS_NOTIFICATION -> userRepository.findById(((CreateTransOutboxPayload) payload).userId()).ifPresentOrElse(
+                    user -> fcmService.sendGetTrans(new CreateTransEvent(user)),
+                    () -> skip(event));
+            // lease 가 만료되어 같은 이벤트가 다시 전송되어도 순위표는 outbox 키로 한 번만 반영함
+            case SPEND_RANKING -> accountBookRepository.findById(((SpendRankingOutboxPayload) payload).accountBookId()).ifPresentOrElse(
+                    accountBook -> spendEventListener.handleSpendCreatedEvent(new SpendCreatedRankingEvent(accountBook), event.getIdempotencyKey()),
+                    () -> skip(event));
+        }
+    }
+
+    private void skip(OutboxEvent event) {
+        log.info("[Outbox] 대상이 없어 건너뜀 : {}", event.getIdempotencyKey());
+    }
+}
@@ -0,0 +1,109 @@
+package dev.book.global.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.book.accountbook.dto.event.CreateTransEvent;
+import dev.book.achievement.dto.event.GetAchievementEvent;
+import dev.book.challenge.rank.SpendCreatedRankingEvent;
+import dev.book.global.config.Firebase.dto.LimitWarningFcmEvent;
+import dev.book.global.event.AsyncEventBus;
+import dev.book.global.outbox.dto.AchievementOutboxPayload;
+import dev.book.global.outbox.dto.CreateTransOutboxPayload;
+import dev.book.global.outbox.dto.SpendRankingOutboxPayload;
+import dev.book.global.outbox.entity.OutboxEvent;
+import dev.book.global.outbox.repository.OutboxEventRepository;
+import dev.book.global.outbox.type.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 알림/순위 이벤트를 도메인 변경과 같은 트랜잭션에서 outbox 테이블에 기록한다.
+ * 커밋 직후 바로 전송을 시도하고, 실패하거나 프로세스가 내려간 경우에는 {@link OutboxRelay} 가 이어서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelay outboxRelay;
+    private final AsyncEventBus eventBus;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // 업적은 사용자당 한 번만 달성되므로 같은 업적 알림은 한 번만 기록
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void recordAchievement(GetAchievementEvent event) {
+        Long achievementId = event.achievement().getId();
+        record(OutboxEventType.ACHIEVEMENT_NOTIFICATION, "achievement:" + event.userId() + ":" + achievementId,
+                new AchievementOutboxPayload(achievementId, event.userId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void recordLimitWarning(LimitWarningFcmEvent event) {
+        record(OutboxEventType.LIMIT_WARNING_NOTIFICATION, "limit-warning:" + UUID.randomUUID(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void recordCreateTrans(CreateTransEvent event) {
+        record(OutboxEventType.CREATE_TRANS_NOTIFICATION, "create-trans:" + UUID.randomUUID(),
+                new CreateTransOutboxPayload(event.user().getId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void recordSpendRanking(SpendCreatedRankingEvent event) {
+        Long accountBookId = event.accountBook().getId();
+        record(OutboxEventType.SPEND_RANKING, "spend-ranking:" + accountBookId, new SpendRankingOutboxPayload(accountBookId));
+    }
+
+    private void record(OutboxEventType type, String idempotencyKey, Object payload) {
+        String json = serialize(payload);
+        LocalDateTime now = LocalDateTime.now();
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        // 진행 중인 트랜잭션이 있으면 참여하고, 없으면 (fallbackExecution) 단독으로 커밋
+        // 기록 즉시 전송 대상이 되며, 커밋 직후 빠른 경로와 폴러 중 먼저 lease 를 잡은 쪽이 한 번만 전송
+        Integer inserted = transactionTemplate.execute(status ->
+                outboxEventRepository.insertIgnore(type.name(), idempotencyKey, json, now, now));
+
+        if (inserted == null || inserted == 0) {
+            log.debug("[Outbox] 이미 기록된 이벤트 : {}", idempotencyKey);
+
+            return;
+        }
+
+        if (!inTransaction) {
+            publishAsync(idempotencyKey);
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishAsync(idempotencyKey);
+            }
+        });
+    }
+
+    private void publishAsync(String idempotencyKey) {
+        eventBus.dispatch(OutboxEvent.class, "outbox:" + idempotencyKey, () -> outboxRelay.publishByKeys(List.of(idempotencyKey)));
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox payload 직렬화 실패 : " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
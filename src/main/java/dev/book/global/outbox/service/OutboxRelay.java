@@ -0,0 +1,148 @@
+package dev.book.global.outbox.service;
+
+import dev.book.global.exception.CustomErrorException;
+import dev.book.global.outbox.entity.OutboxEvent;
+import dev.book.global.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 전송되지 않은 outbox 이벤트를 배치로 가져와 전송하고, 실패한 이벤트는 지수 백오프로 다시 시도한다.
+ * 4xx 성격의 도메인 예외(토큰 없음 등)는 다시 시도해도 결과가 같으므로 바로 실패 처리한다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher outboxDispatcher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter published;
+    private final Counter retried;
+    private final Counter failed;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+    // 한 번의 폴링에서 처리할 최대 배치 수, 스케줄러 스레드를 오래 잡지 않도록 제한
+    @Value("${outbox.relay.max-batches:10}")
+    private int maxBatches;
+    @Value("${outbox.relay.max-attempts:5}")
+    private int maxAttempts;
+    @Value("${outbox.relay.backoff-ms:1000}")
+    private long backoffMillis;
+    @Value("${outbox.relay.max-backoff-ms:300000}")
+    private long maxBackoffMillis;
+    @Value("${outbox.relay.lease-seconds:30}")
+    private long leaseSeconds;
+    @Value("${outbox.relay.retention-days:7}")
+    private long retentionDays;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxDispatcher outboxDispatcher,
+                       TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxDispatcher = outboxDispatcher;
+        this.transactionTemplate = transactionTemplate;
+        this.published = meterRegistry.counter("outbox.relay", "result", "published");
+        this.retried = meterRegistry.counter("outbox.relay", "result", "retried");
+        this.failed = meterRegistry.counter("outbox.relay", "result", "failed");
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relay() {
+        for (int i = 0; i < maxBatches; i++) {
+            List<OutboxEvent> batch = claim();
+            batch.forEach(this::publish);
+
+            if (batch.size() < batchSize) {
+
+                return;
+            }
+        }
+    }
+
+    // 커밋 직후 빠른 경로, 폴러와 같은 방식으로 lease 를 잡은 이벤트만 전송해 폴러와 중복 전송하지 않음
+    public void publishByKeys(Collection<String> idempotencyKeys) {
+        claim(now -> outboxEventRepository.findDueIdsByKeysForUpdate(idempotencyKeys, now)).forEach(this::publish);
+    }
+
+    @Scheduled(cron = "${outbox.relay.cleanup-cron:0 30 4 * * *}")
+    @Transactional
+    public void deletePublished() {
+        int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("[Outbox] 전송 완료된 이벤트 {}건 삭제", deleted);
+    }
+
+    // 가져온 행은 lease 시간 동안 다른 폴러가 가져가지 못함, 전송 도중 죽으면 lease 만료 후 다시 시도됨
+    List<OutboxEvent> claim() {
+        return claim(now -> outboxEventRepository.findDueIdsForUpdate(now, batchSize));
+    }
+
+    private List<OutboxEvent> claim(Function<LocalDateTime, List<Long>> dueIdsFinder) {
+        List<OutboxEvent> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = dueIdsFinder.apply(now);
+
+            if (ids.isEmpty()) {
+
+                return List.of();
+            }
+
+            outboxEventRepository.lease(ids, now.plusSeconds(leaseSeconds));
+
+            return outboxEventRepository.findAllById(ids);
+        });
+
+        return claimed == null ? List.of() : claimed;
+    }
+
+    // 전송 결과는 lease 를 잡은 그대로일 때만 기록, 그 사이 다른 폴러가 다시 가져갔다면 그쪽 결과를 남김
+    void publish(OutboxEvent event) {
+        LocalDateTime leaseUntil = event.getNextAttemptAt();
+
+        try {
+            outboxDispatcher.dispatch(event);
+            event.published(LocalDateTime.now());
+            published.increment();
+        } catch (Exception e) {
+            int attempt = event.getAttempts() + 1;
+
+            if (!isRetryable(e) || attempt >= maxAttempts) {
+                event.failed(e.getMessage());
+                failed.increment();
+                log.warn("[Outbox] 이벤트 전송 실패 : {} ({}회)", event.getIdempotencyKey(), attempt, e);
+            } else {
+                event.retryAt(LocalDateTime.now().plus(Duration.ofMillis(backoff(attempt))), e.getMessage());
+                retried.increment();
+                log.info("[Outbox] 이벤트 전송 재시도 예정 : {} ({}회)", event.getIdempotencyKey(), attempt);
+            }
+        }
+
+        if (outboxEventRepository.updateIfLeased(event, leaseUntil) == 0) {
+            log.info("[Outbox] lease 가 만료되어 다시 가져간 이벤트의 결과는 버림 : {}", event.getIdempotencyKey());
+        }
+    }
+
+    long backoff(int attempt) {
+        long delay = backoffMillis << Math.min(attempt - 1, 20);
+
+        return Math.min(delay, maxBackoffMillis);
+    }
+
+    private boolean isRetryable(Exception e) {
+        return !(e instanceof CustomErrorException customErrorException
+                && customErrorException.getErrorCode().getStatus().is4xxClientError());
+    }
+}
@@ -0,0 +1,19 @@
+package dev.book.global.outbox.type;
+
+import dev.book.global.config.Firebase.dto.LimitWarningFcmEvent;
+import dev.book.global.outbox.dto.AchievementOutboxPayload;
+import dev.book.global.outbox.dto.CreateTransOutboxPayload;
+import dev.book.global.outbox.dto.SpendRankingOutboxPayload;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    ACHIEVEMENT_NOTIFICATION(AchievementOutboxPayload.class),
+    LIMIT_WARNING_NOTIFICATION(LimitWarningFcmEvent.class),
+    CREATE_TRANS_NOTIFICATION(CreateTransOutboxPayload.class),
+    SPEND_RANKING(SpendRankingOutboxPayload.class);
+
+    private final Class<?> payloadType;
+}
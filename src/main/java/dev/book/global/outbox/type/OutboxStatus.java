@@ -0,0 +1,5 @@
+package dev.book.global.outbox.type;
+
+public enum OutboxStatus {
+    PENDING, PUBLISHED, FAILED
+}
@@ -0,0 +1,23 @@
+package dev.book.global.repository;
+
+import dev.book.global.entity.Category;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CategoryChangeListener {
+    // EntityManagerFactory 생성 시점에 CategoryRegistry 가 아직 없을 수 있어 지연 조회
+    private final ObjectProvider<CategoryRegistry> categoryRegistry;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Category category) {
+        categoryRegistry.ifAvailable(CategoryRegistry::invalidate);
+    }
+}
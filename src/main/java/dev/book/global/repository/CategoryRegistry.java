@@ -0,0 +1,136 @@
+package dev.book.global.repository;
+
+import dev.book.global.entity.Category;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리는 건수가 적고 거의 바뀌지 않으므로 메모리에 올려두고 코드로 조회한다.
+ * 카테고리가 추가·수정·삭제되면 {@link CategoryChangeListener} 가 커밋 이후 다시 읽도록 무효화한다.
+ */
+@Slf4j
+@Component
+public class CategoryRegistry {
+    private final CategoryRepository categoryRepository;
+    private final long missReloadIntervalNanos;
+
+    private volatile Snapshot snapshot;
+
+    public CategoryRegistry(CategoryRepository categoryRepository,
+                            @Value("${category.miss-reload-interval-millis:10000}") long missReloadIntervalMillis) {
+        this.categoryRepository = categoryRepository;
+        this.missReloadIntervalNanos = TimeUnit.MILLISECONDS.toNanos(missReloadIntervalMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    public Optional<Category> findByCode(String code) {
+        Snapshot current = current();
+        Category category = current.byCode().get(code);
+
+        if (category == null) {
+            category = reloadOnMiss(current).byCode().get(code);
+        }
+
+        return Optional.ofNullable(category);
+    }
+
+    /**
+     * 여러 코드를 한 번에 조회한다. 없는 코드는 결과에서 빠진다.
+     */
+    public Map<String, Category> findAllByCodes(Collection<String> codes) {
+        Snapshot current = current();
+
+        if (!current.byCode().keySet().containsAll(codes)) {
+            current = reloadOnMiss(current);
+        }
+
+        Map<String, Category> result = new HashMap<>();
+
+        for (String code : codes) {
+            Category category = current.byCode().get(code);
+
+            if (category != null) {
+                result.put(code, category);
+            }
+        }
+
+        return result;
+    }
+
+    public List<Category> findAll() {
+        return List.copyOf(current().byCode().values());
+    }
+
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshot = null;
+                }
+            });
+
+            return;
+        }
+
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+
+        return current != null ? current : reload();
+    }
+
+    /**
+     * 없는 코드로 조회하면 DB 에서 다시 읽어 다른 경로로 추가된 카테고리도 반영한다.
+     * 잘못된 코드가 반복해서 들어와도 전체 조회가 매번 일어나지 않도록, 적재 후 일정 시간 안의 미스는 그대로 없음으로 처리한다.
+     */
+    private Snapshot reloadOnMiss(Snapshot seen) {
+        if (System.nanoTime() - seen.loadedAt() < missReloadIntervalNanos) {
+
+            return seen;
+        }
+
+        synchronized (this) {
+            Snapshot current = snapshot;
+
+            // 락을 기다리는 동안 다른 스레드가 이미 다시 읽었으면 그 결과를 사용
+            if (current != null && current != seen) {
+
+                return current;
+            }
+
+            return reload();
+        }
+    }
+
+    private synchronized Snapshot reload() {
+        List<Category> categories = categoryRepository.findAll();
+        Snapshot loaded = new Snapshot(
+                categories.stream().collect(Collectors.toUnmodifiableMap(Category::getCategory, Function.identity(), (a, b) -> a)),
+                System.nanoTime()
+        );
+        snapshot = loaded;
+        log.debug("[Category] {}건 적재", categories.size());
+
+        return loaded;
+    }
+
+    private record Snapshot(Map<String, Category> byCode, long loadedAt) {
+    }
+}
@@ -10,13 +10,9 @@ import java.util.concurrent.ConcurrentHashMap;
 @Configuration
 public class EmitterStorage {
 
+    // 유저 ID -> (emitter ID -> emitter)
     @Bean
-    public Map<String, SseEmitter> emitters() {
-        return new ConcurrentHashMap<>();
-    }
-
-    @Bean
-    public Map<String, Object> eventCache() {
+    public Map<Long, Map<String, SseEmitter>> emitters() {
         return new ConcurrentHashMap<>();
     }
 }
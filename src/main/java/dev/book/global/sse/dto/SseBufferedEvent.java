@@ -0,0 +1,4 @@
+package dev.book.global.sse.dto;
+
+public record SseBufferedEvent(String id, long sequence, String name, Object data, long createdAt) {
+}
@@ -3,24 +3,19 @@ package dev.book.global.sse.repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 public interface SseEmitterRepository{
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
+    SseEmitter save(Long userId, String emitterId, SseEmitter sseEmitter);
 
-    void saveEventCache(String eventCacheId, Object event);
+    Map<String, SseEmitter> findAllEmitterByUserId(Long userId);
 
-    Map<String, SseEmitter> findAllEmitterStartsWithUserId(String id);
+    void forEachUser(BiConsumer<Long, Map<String, SseEmitter>> action);
 
-    Map<String, Object> findAllEventCacheStartsWithUserId(String id);
+    void deleteEmitterById(Long userId, String emitterId);
 
-    Map<String, SseEmitter> findAllEmitters();
+    void deleteAllEmitterByUserId(Long userId);
 
-    void deleteEmitterById(String id);
-
-    void deleteAllEmitterStartsWithUserId(String id);
-
-    void deleteAllEventCacheStartsWithUserId(String id);
-
-    void deleteEventCacheById(String id);
+    int countEmitters();
 
 }
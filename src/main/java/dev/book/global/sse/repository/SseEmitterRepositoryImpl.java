@@ -1,71 +1,79 @@
 package dev.book.global.sse.repository;
 
 import dev.book.global.sse.bean.EmitterStorage;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
-import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * 유저 ID 로 한 번 찾은 뒤 그 유저의 emitter 만 다루므로 전체 연결 수와 무관하게 동작한다.
+ * 내부 맵의 생성과 비워진 맵의 제거는 compute 안에서 처리해 동시에 추가/삭제되어도 항목이 유실되지 않는다.
+ */
 @Component
-@RequiredArgsConstructor
 public class SseEmitterRepositoryImpl implements SseEmitterRepository{
 
     private final EmitterStorage emitterStorage;
+    // 이 노드에 연결된 emitter 수
+    private final AtomicInteger liveEmitters = new AtomicInteger();
 
-    @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitterStorage.emitters().put(emitterId, sseEmitter);
-        return sseEmitter;
+    public SseEmitterRepositoryImpl(EmitterStorage emitterStorage, MeterRegistry meterRegistry) {
+        this.emitterStorage = emitterStorage;
+        meterRegistry.gauge("sse.emitters.live", liveEmitters);
+        meterRegistry.gaugeMapSize("sse.emitters.users", List.of(), emitterStorage.emitters());
     }
 
     @Override
-    public void saveEventCache(String eventCacheId, Object event) {
-        emitterStorage.eventCache().put(eventCacheId, event);
-    }
+    public SseEmitter save(Long userId, String emitterId, SseEmitter sseEmitter) {
+        emitterStorage.emitters().compute(userId, (id, emitters) -> {
+            Map<String, SseEmitter> target = emitters == null ? new ConcurrentHashMap<>() : emitters;
 
-    @Override
-    public Map<String, SseEmitter> findAllEmitterStartsWithUserId(String id) {
-        return emitterStorage.emitters().entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(id))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
+            if (target.put(emitterId, sseEmitter) == null) {
+                liveEmitters.incrementAndGet();
+            }
 
-    @Override
-    public Map<String, Object> findAllEventCacheStartsWithUserId(String id) {
-        return emitterStorage.eventCache().entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(id))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            return target;
+        });
+        return sseEmitter;
     }
 
     @Override
-    public Map<String, SseEmitter> findAllEmitters() {
-        return emitterStorage.emitters();
+    public Map<String, SseEmitter> findAllEmitterByUserId(Long userId) {
+        return Map.copyOf(emitterStorage.emitters().getOrDefault(userId, Map.of()));
     }
 
     @Override
-    public void deleteEmitterById(String emitterId) {
-        emitterStorage.emitters().remove(emitterId);
-
+    public void forEachUser(BiConsumer<Long, Map<String, SseEmitter>> action) {
+        emitterStorage.emitters().forEach(action);
     }
 
     @Override
-    public void deleteAllEmitterStartsWithUserId(String id) {
-        emitterStorage.emitters().keySet().removeIf(key -> key.startsWith(id));
-
-
+    public void deleteEmitterById(Long userId, String emitterId) {
+        emitterStorage.emitters().computeIfPresent(userId, (id, emitters) -> {
+            if (emitters.remove(emitterId) != null) {
+                liveEmitters.decrementAndGet();
+            }
+
+            return emitters.isEmpty() ? null : emitters;
+        });
     }
 
     @Override
-    public void deleteAllEventCacheStartsWithUserId(String id) {
-        emitterStorage.eventCache().keySet().removeIf(key -> key.startsWith(id));
+    public void deleteAllEmitterByUserId(Long userId) {
+        Map<String, SseEmitter> removed = emitterStorage.emitters().remove(userId);
 
+        if (removed != null) {
+            liveEmitters.addAndGet(-removed.size());
+        }
     }
 
     @Override
-    public void deleteEventCacheById(String id) {
-        emitterStorage.eventCache().remove(id);
+    public int countEmitters() {
+        return liveEmitters.get();
     }
 }
@@ -0,0 +1,171 @@
+package dev.book.global.sse.repository;
+
+import dev.book.global.sse.dto.SseBufferedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 재연결 시 Last-Event-ID 이후의 이벤트를 다시 보내기 위한 유저별 링 버퍼.
+ * 유저당 최대 capacity 개, ttl 이내의 이벤트만 보관하고 오래된 이벤트부터 밀어낸다.
+ * 이벤트 ID 는 "유저ID_순번" 이며, 순번은 유저별로 1씩 증가하므로 Last-Event-ID 위치를 바로 계산할 수 있다.
+ */
+@Component
+public class SseEventBuffer {
+    private final int capacity;
+    private final long ttlMillis;
+
+    // 유저 ID -> 링 버퍼
+    private final Map<Long, UserEventRing> rings = new ConcurrentHashMap<>();
+    private final AtomicLong buffered = new AtomicLong();
+
+    private final Counter evictedByCapacity;
+    private final Counter evictedByTtl;
+    private final Counter replayed;
+
+    public SseEventBuffer(MeterRegistry meterRegistry,
+                          @Value("${sse.replay.capacity:50}") int capacity,
+                          @Value("${sse.replay.ttl-seconds:600}") long ttlSeconds) {
+        this.capacity = capacity;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.evictedByCapacity = meterRegistry.counter("sse.replay.evicted", "reason", "capacity");
+        this.evictedByTtl = meterRegistry.counter("sse.replay.evicted", "reason", "ttl");
+        this.replayed = meterRegistry.counter("sse.replay.replayed");
+        meterRegistry.gaugeMapSize("sse.replay.users", List.of(), rings);
+        meterRegistry.gauge("sse.replay.events", buffered);
+    }
+
+    /**
+     * 이벤트를 버퍼에 추가하고, 부여된 이벤트 ID 로 만든 데이터와 함께 돌려준다.
+     */
+    public SseBufferedEvent append(Long userId, String name, Function<String, Object> dataFactory) {
+        long now = System.currentTimeMillis();
+        SseBufferedEvent[] appended = new SseBufferedEvent[1];
+        // 스위퍼가 같은 유저의 링을 지우는 것과 겹치지 않도록 compute 안에서 추가
+        rings.compute(userId, (id, ring) -> {
+            UserEventRing target = ring == null ? new UserEventRing(now) : ring;
+            appended[0] = target.append(userId, name, dataFactory, now);
+
+            return target;
+        });
+
+        return appended[0];
+    }
+
+    public List<SseBufferedEvent> replayAfter(Long userId, String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        UserEventRing ring = rings.get(userId);
+
+        if (lastSequence < 0 || ring == null) {
+
+            return List.of();
+        }
+
+        List<SseBufferedEvent> events = ring.after(lastSequence, System.currentTimeMillis());
+        replayed.increment(events.size());
+
+        return events;
+    }
+
+    @Scheduled(fixedDelayString = "${sse.replay.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+
+        for (Long userId : rings.keySet()) {
+            rings.computeIfPresent(userId, (id, ring) -> ring.expireAndCheckEmpty(now) ? null : ring);
+        }
+    }
+
+    public long bufferedCount() {
+        return buffered.get();
+    }
+
+    private long parseSequence(String eventId) {
+        try {
+            return Long.parseLong(eventId.substring(eventId.lastIndexOf('_') + 1));
+        } catch (NumberFormatException e) {
+
+            return -1;
+        }
+    }
+
+    private final class UserEventRing {
+        private final SseBufferedEvent[] events = new SseBufferedEvent[capacity];
+        // 가장 오래된 이벤트 위치
+        private int head;
+        private int size;
+        // 서버 재시작 후에도 이전 연결의 Last-Event-ID 보다 커지도록 현재 시각에서 시작
+        private long nextSequence;
+
+        private UserEventRing(long now) {
+            this.nextSequence = now;
+        }
+
+        private synchronized SseBufferedEvent append(Long userId, String name, Function<String, Object> dataFactory, long now) {
+            expire(now);
+            long sequence = nextSequence++;
+            String id = userId + "_" + sequence;
+            SseBufferedEvent event = new SseBufferedEvent(id, sequence, name, dataFactory.apply(id), now);
+
+            if (size == capacity) {
+                removeOldest();
+                evictedByCapacity.increment();
+            }
+
+            events[(head + size) % capacity] = event;
+            size++;
+            buffered.incrementAndGet();
+
+            return event;
+        }
+
+        // 순번이 연속이므로 시작 위치를 바로 계산, 밀려난 이벤트가 있으면 남아 있는 것부터 보냄
+        private synchronized List<SseBufferedEvent> after(long lastSequence, long now) {
+            expire(now);
+
+            if (size == 0) {
+
+                return List.of();
+            }
+
+            long offset = lastSequence - events[head].sequence() + 1;
+            int start = (int) Math.max(0, Math.min(size, offset));
+            List<SseBufferedEvent> result = new ArrayList<>(size - start);
+
+            for (int i = start; i < size; i++) {
+                result.add(events[(head + i) % capacity]);
+            }
+
+            return result;
+        }
+
+        private synchronized boolean expireAndCheckEmpty(long now) {
+            expire(now);
+
+            return size == 0;
+        }
+
+        private void expire(long now) {
+            while (size > 0 && events[head].createdAt() <= now - ttlMillis) {
+                removeOldest();
+                evictedByTtl.increment();
+            }
+        }
+
+        private void removeOldest() {
+            events[head] = null;
+            head = (head + 1) % capacity;
+            size--;
+            buffered.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package dev.book.global.sse.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.book.global.config.bean.SseProperties;
+import dev.book.global.sse.repository.SseEmitterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전체 연결에 같은 이벤트를 보낸다. 이벤트는 한 번만 직렬화하고, 요청 스레드는 기다리지 않는다.
+ * 연결별 전송은 제한된 스레드 풀에서 실행되며, 이전 전송이 아직 끝나지 않은 연결은 건너뛰고 전송을 시작한 뒤 제한 시간을 넘긴 느린 연결은 끊는다.
+ * 전송 스레드를 기다리느라 제한 시간 안에 시작하지 못한 전송은 연결을 유지한 채 이번 이벤트만 버린다.
+ */
+@Slf4j
+@Component
+public class SseBroadcaster {
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final SseEmitterRepository sseEmitterRepository;
+    private final ObjectMapper objectMapper;
+    private final SseProperties properties;
+
+    private final ThreadPoolExecutor senders;
+    // 순회/전송 예약과 제한 시간 확인을 담당
+    private final ScheduledExecutorService coordinator;
+    // 전송 중인 emitter, 이전 브로드캐스트가 아직 끝나지 않은 연결에는 다시 보내지 않음
+    private final Set<SseEmitter> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Counter sent;
+    private final Counter skipped;
+    private final Counter dropped;
+    private final Counter evicted;
+    private final Timer sendTimer;
+    private final Timer broadcastTimer;
+    private final Timer heartbeatTimer;
+
+    public SseBroadcaster(SseEmitterRepository sseEmitterRepository, ObjectMapper objectMapper,
+                          SseProperties properties, MeterRegistry meterRegistry) {
+        this.sseEmitterRepository = sseEmitterRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.senders = new ThreadPoolExecutor(properties.getBroadcastWorkers(), properties.getBroadcastWorkers(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getBroadcastQueueCapacity()),
+                new CustomizableThreadFactory("sse-broadcast-"), new ThreadPoolExecutor.AbortPolicy());
+        this.coordinator = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("sse-broadcast-coordinator-"));
+
+        this.sent = meterRegistry.counter("sse.broadcast", "result", "sent");
+        this.skipped = meterRegistry.counter("sse.broadcast", "result", "skipped");
+        this.dropped = meterRegistry.counter("sse.broadcast", "result", "dropped");
+        this.evicted = meterRegistry.counter("sse.broadcast", "result", "evicted");
+        this.sendTimer = Timer.builder("sse.broadcast.send")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.broadcastTimer = Timer.builder("sse.broadcast.latency")
+                .description("브로드캐스트 요청부터 마지막 연결 전송 완료까지의 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.heartbeatTimer = Timer.builder("sse.heartbeat.latency")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gaugeCollectionSize("sse.broadcast.in_flight", List.of(), inFlight);
+    }
+
+    public void broadcast(String name, Object data) {
+        submit(name, serialize(name, data), broadcastTimer);
+    }
+
+    /**
+     * 모든 연결에 주석 프레임을 보내 끊긴 연결을 찾아낸다. 실패하거나 제한 시간을 넘긴 연결은 일반 전송과 같은 경로로 정리된다.
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval-millis:15000}")
+    public void heartbeat() {
+        submit("heartbeat", HEARTBEAT, heartbeatTimer);
+    }
+
+    private void submit(String name, Set<ResponseBodyEmitter.DataWithMediaType> event, Timer latency) {
+        long startedAt = System.nanoTime();
+
+        try {
+            coordinator.execute(() -> fanOut(event, startedAt, latency));
+        } catch (RejectedExecutionException e) {
+            log.warn("[SSE] 종료 중이라 브로드캐스트를 건너뜀 : {}", name);
+        }
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> serialize(String name, Object data) {
+        try {
+            // 문자열로 미리 직렬화해 두면 연결마다 다시 JSON 으로 변환하지 않음
+            return SseEmitter.event()
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(data))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 이벤트 직렬화 실패 : " + name, e);
+        }
+    }
+
+    private void fanOut(Set<ResponseBodyEmitter.DataWithMediaType> event, long startedAt, Timer latency) {
+        List<Delivery> deliveries = new ArrayList<>();
+        sseEmitterRepository.forEachUser((userId, emitters) -> emitters.forEach((emitterId, emitter) ->
+                deliveries.add(new Delivery(userId, emitterId, emitter))));
+        Broadcast broadcast = new Broadcast(startedAt, deliveries.size(), latency);
+
+        if (deliveries.isEmpty()) {
+            latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            return;
+        }
+
+        for (Delivery delivery : deliveries) {
+            submit(delivery, event, broadcast);
+        }
+
+        coordinator.schedule(() -> evictSlow(deliveries, broadcast), properties.getSendTimeoutMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void submit(Delivery delivery, Set<ResponseBodyEmitter.DataWithMediaType> event, Broadcast broadcast) {
+        if (!inFlight.add(delivery.emitter)) {
+            skipped.increment();
+            broadcast.finish();
+            delivery.finished.set(true);
+
+            return;
+        }
+
+        try {
+            delivery.future = senders.submit(() -> send(delivery, event, broadcast));
+        } catch (RejectedExecutionException e) {
+            // 전송 대기열이 가득 차면 이번 이벤트는 버림
+            dropped.increment();
+            finish(delivery, broadcast);
+        }
+    }
+
+    private void send(Delivery delivery, Set<ResponseBodyEmitter.DataWithMediaType> event, Broadcast broadcast) {
+        long started = System.nanoTime();
+        delivery.sendStartedAt = started;
+
+        try {
+            delivery.emitter.send(event);
+            sent.increment();
+        } catch (Exception e) {
+            sseEmitterRepository.deleteEmitterById(delivery.userId, delivery.emitterId);
+        } finally {
+            sendTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            finish(delivery, broadcast);
+        }
+    }
+
+    /**
+     * 전송을 시작한 지 제한 시간이 지난 연결만 느린 연결로 보고 끊는다.
+     * 아직 시작하지 못한 전송은 풀이 밀린 것이지 연결 문제가 아니므로 취소만 하고, 제한 시간이 남은 전송은 남은 시간 뒤에 다시 확인한다.
+     */
+    private void evictSlow(List<Delivery> deliveries, Broadcast broadcast) {
+        long now = System.nanoTime();
+        long timeout = TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeoutMillis());
+        List<Delivery> sending = new ArrayList<>();
+        long nextCheckAt = Long.MAX_VALUE;
+
+        for (Delivery delivery : deliveries) {
+            if (delivery.finished.get()) {
+                continue;
+            }
+
+            long sendStartedAt = delivery.sendStartedAt;
+
+            // 취소에 실패했다면 그 사이 전송이 시작된 것이므로 시작된 전송으로 다시 확인
+            if (sendStartedAt == 0 && delivery.future.cancel(false)) {
+                dropped.increment();
+                finish(delivery, broadcast);
+                continue;
+            }
+
+            if (sendStartedAt != 0 && now - sendStartedAt >= timeout) {
+                delivery.future.cancel(true);
+                evicted.increment();
+                sseEmitterRepository.deleteEmitterById(delivery.userId, delivery.emitterId);
+                delivery.emitter.complete();
+                finish(delivery, broadcast);
+                continue;
+            }
+
+            sending.add(delivery);
+            nextCheckAt = Math.min(nextCheckAt, (sendStartedAt == 0 ? now : sendStartedAt) + timeout);
+        }
+
+        if (!sending.isEmpty()) {
+            coordinator.schedule(() -> evictSlow(sending, broadcast), Math.max(nextCheckAt - now, 1), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 전송 완료, 실패, 중단 중 어느 경로로 와도 한 번만 처리
+    private void finish(Delivery delivery, Broadcast broadcast) {
+        if (delivery.finished.compareAndSet(false, true)) {
+            inFlight.remove(delivery.emitter);
+            broadcast.finish();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    private static final class Delivery {
+        private final Long userId;
+        private final String emitterId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile Future<?> future;
+        // 전송 스레드에서 실제로 보내기 시작한 시각, 0 이면 아직 시작하지 않음
+        private volatile long sendStartedAt;
+
+        private Delivery(Long userId, String emitterId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitterId = emitterId;
+            this.emitter = emitter;
+        }
+    }
+
+    private static final class Broadcast {
+        private final long startedAt;
+        private final AtomicInteger remaining;
+        private final Timer latency;
+
+        private Broadcast(long startedAt, int size, Timer latency) {
+            this.startedAt = startedAt;
+            this.remaining = new AtomicInteger(size);
+            this.latency = latency;
+        }
+
+        private void finish() {
+            if (remaining.decrementAndGet() == 0) {
+                latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package dev.book.global.sse.service;
 
 import dev.book.achievement.dto.AchievementResponseDto;
+import dev.book.global.config.bean.SseProperties;
+import dev.book.global.sse.dto.SseBufferedEvent;
 import dev.book.global.sse.dto.response.SseAchievementResponse;
 import dev.book.global.sse.dto.response.SseTipResponse;
 import dev.book.global.sse.repository.SseEmitterRepository;
+import dev.book.global.sse.repository.SseEventBuffer;
 import dev.book.global.sse.type.SseType;
 import dev.book.tip.dto.response.TipResponse;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.Comparator;
 import java.util.Map;
 
 @Service
@@ -18,7 +22,9 @@ import java.util.Map;
 public class SseService {
 
     private final SseEmitterRepository sseEmitterRepository;
-    private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
+    private final SseEventBuffer sseEventBuffer;
+    private final SseBroadcaster sseBroadcaster;
+    private final SseProperties sseProperties;
 
     /**
      * SSE 구독 경로, 구독한 emitter(유저)를 저장하고 Last Event Id보다 이후에 발생한 event들을 전송합니다.
@@ -28,24 +34,19 @@ public class SseService {
      */
     public SseEmitter subscribe(Long userId, String lastEventId) {
         String emitterId = getEmitterId(userId);
-        SseEmitter emitter = sseEmitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        evictOldestOverCap(userId);
+        SseEmitter emitter = sseEmitterRepository.save(userId, emitterId, new SseEmitter(sseProperties.getEmitterTimeoutMillis()));
 
-        emitter.onCompletion(() -> sseEmitterRepository.deleteEmitterById(emitterId));
-        emitter.onTimeout(() -> sseEmitterRepository.deleteEmitterById(emitterId));
-        emitter.onError((e) -> sseEmitterRepository.deleteEmitterById(emitterId));
+        emitter.onCompletion(() -> sseEmitterRepository.deleteEmitterById(userId, emitterId));
+        emitter.onTimeout(() -> sseEmitterRepository.deleteEmitterById(userId, emitterId));
+        emitter.onError((e) -> sseEmitterRepository.deleteEmitterById(userId, emitterId));
 
-        sendToClient(emitter, emitterId, "EventStream created. [userId= "+ userId + "]", null);
-        //구독 되었다는 것을 표시하는 eventCache
+        // 연결/팁 이벤트에는 ID 를 붙이지 않아 클라이언트의 Last-Event-ID 가 버퍼의 순번만 가리키도록 함
+        sendToClient(userId, emitter, emitterId, null, "EventStream created. [userId= "+ userId + "]", null);
 
         if (!lastEventId.isEmpty()){
-            Map<String, Object> events = sseEmitterRepository.findAllEventCacheStartsWithUserId(String.valueOf(userId));
-            events.entrySet().stream()
-                .filter(entry -> lastEventId.compareTo(entry.getKey())<0)
-                .forEach(entry -> {
-                    SseAchievementResponse event = (SseAchievementResponse) entry.getValue();
-                    sendToClient(emitter, entry.getKey(), event, event.name());
-                });
-            sseEmitterRepository.deleteAllEventCacheStartsWithUserId(String.valueOf(userId));
+            sseEventBuffer.replayAfter(userId, lastEventId)
+                    .forEach(event -> sendToClient(userId, emitter, emitterId, event.id(), event.data(), event.name()));
         }
 
         return emitter;
@@ -53,22 +54,17 @@ public class SseService {
 
     /**
      * emitter(userId) 에게 event(AchievementResponseDto) 를 전송합니다.
+     * 연결이 없거나 끊긴 경우를 위해 재전송 버퍼에도 보관합니다.
      * @param userId
      * @param achievement
      */
     public void sendAchievementToUser(Long userId, AchievementResponseDto achievement) {
-        Map<String, SseEmitter> sseEmitters = sseEmitterRepository.findAllEmitterStartsWithUserId(String.valueOf(userId));
-        String emitterId = getEmitterId(userId);
-        SseAchievementResponse sseAchievementResponse = new SseAchievementResponse(emitterId, achievement.title(), achievement.content(), SseType.ACHIEVEMENT.name());
-        if (sseEmitters.isEmpty()){ //emitter가 존재하지 않을 경우, 백그라운드에서 SSE 이벤트가 발생하였을 경우
-            sseEmitterRepository.saveEventCache(emitterId, sseAchievementResponse); //event 캐시에만 저장해놓고 subscribe 되었을 때 반환하도록 한다.
-        }
-        else {
-            sseEmitters.forEach((key, emitter) -> {
-                sseEmitterRepository.saveEventCache(emitterId, sseAchievementResponse);
-                sendToClient(emitter, emitterId, sseAchievementResponse, sseAchievementResponse.name());
-            });
-        }
+        SseBufferedEvent event = sseEventBuffer.append(userId, SseType.ACHIEVEMENT.name(),
+                eventId -> new SseAchievementResponse(eventId, achievement.title(), achievement.content(), SseType.ACHIEVEMENT.name()));
+        Map<String, SseEmitter> sseEmitters = sseEmitterRepository.findAllEmitterByUserId(userId);
+
+        sseEmitters.forEach((emitterId, emitter) ->
+                sendToClient(userId, emitter, emitterId, event.id(), event.data(), event.name()));
     }
 
     /**
@@ -79,22 +75,49 @@ public class SseService {
         String eventId = "tip_" + System.currentTimeMillis();
         SseTipResponse sseTipResponse = new SseTipResponse(eventId, tip.writer(), tip.content(), SseType.TIP.name());
 
-        Map<String, SseEmitter> emitters = sseEmitterRepository.findAllEmitters(); // 전체 유저에게 브로드캐스트
-        emitters.forEach((emitterId, emitter)
-                -> sendToClient(emitter, emitterId, sseTipResponse, SseType.TIP.name()));
+        // 전체 유저에게 브로드캐스트, 요청 스레드는 전송을 기다리지 않음
+        sseBroadcaster.broadcast(SseType.TIP.name(), sseTipResponse);
     }
 
-    private void sendToClient(SseEmitter emitter, String emitterId, Object value, String name) {
+    private void sendToClient(Long userId, SseEmitter emitter, String emitterId, String eventId, Object value, String name) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .name(name)
+                .data(value);
+
+        if (eventId != null) {
+            builder.id(eventId);
+        }
+
         try {
-            emitter.send(SseEmitter.event()
-                    .id(emitterId)
-                    .name(name)
-                    .data(value));
+            emitter.send(builder);
         } catch (IOException | IllegalStateException e){
-            sseEmitterRepository.deleteEmitterById(emitterId);
+            sseEmitterRepository.deleteEmitterById(userId, emitterId);
         }
     }
 
+    // 새 연결이 들어갈 자리를 남기고 오래된 연결부터 끊음, emitter ID 뒤쪽은 연결 시각
+    private void evictOldestOverCap(Long userId) {
+        Map<String, SseEmitter> emitters = sseEmitterRepository.findAllEmitterByUserId(userId);
+        int overflow = emitters.size() - sseProperties.getMaxEmittersPerUser() + 1;
+
+        if (overflow <= 0) {
+
+            return;
+        }
+
+        emitters.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> connectedAt(entry.getKey())))
+                .limit(overflow)
+                .forEach(entry -> {
+                    sseEmitterRepository.deleteEmitterById(userId, entry.getKey());
+                    entry.getValue().complete();
+                });
+    }
+
+    private static long connectedAt(String emitterId) {
+        return Long.parseLong(emitterId.substring(emitterId.lastIndexOf('_') + 1));
+    }
+
     private static String getEmitterId(Long userId) {
         return userId + "_" + System.currentTimeMillis();
     }
@@ -0,0 +1,102 @@
+package dev.book.global.util;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 키 하나로 암복호화를 수행한다. 키와 SecureRandom 은 한 번만 만들고, Cipher 는 스레드마다 재사용한다.
+ * 새로 암호화한 값은 AES-GCM 에 버전 접두사를 붙여 저장하고, 접두사가 없는 값은 기존 방식(CBC 또는 ECB)으로 복호화한다.
+ */
+public final class AesCrypto {
+
+    // 버전 접두사, 기존 암호문은 Base64 문자만 쓰므로 ':' 로 구분됨
+    private static final String GCM_V1 = "v1:";
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final int CBC_IV_LENGTH = 16;
+
+    // SecureRandom 은 스레드 안전하므로 하나를 공유
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final SecretKeySpec key;
+    private final Legacy legacy;
+    private final ThreadLocal<Cipher> gcmCipher = ThreadLocal.withInitial(() -> cipher("AES/GCM/NoPadding"));
+    private final ThreadLocal<Cipher> legacyCipher;
+
+    public AesCrypto(String secret, Legacy legacy) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "AES");
+        this.legacy = legacy;
+        this.legacyCipher = ThreadLocal.withInitial(() -> cipher(legacy.transformation));
+    }
+
+    public String encrypt(String plainText) throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        SECURE_RANDOM.nextBytes(iv);
+
+        Cipher cipher = gcmCipher.get();
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_BITS, iv));
+        byte[] plain = plainText.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer output = ByteBuffer.allocate(GCM_IV_LENGTH + cipher.getOutputSize(plain.length));
+        output.put(iv);
+        cipher.doFinal(ByteBuffer.wrap(plain), output);
+
+        return GCM_V1 + Base64.getEncoder().encodeToString(output.array());
+    }
+
+    public String decrypt(String encryptedText) throws GeneralSecurityException {
+        if (encryptedText.startsWith(GCM_V1)) {
+            byte[] bytes = Base64.getDecoder().decode(encryptedText.substring(GCM_V1.length()));
+            Cipher cipher = gcmCipher.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_BITS, bytes, 0, GCM_IV_LENGTH));
+
+            return new String(cipher.doFinal(bytes, GCM_IV_LENGTH, bytes.length - GCM_IV_LENGTH), StandardCharsets.UTF_8);
+        }
+
+        return decryptLegacy(Base64.getDecoder().decode(encryptedText));
+    }
+
+    private String decryptLegacy(byte[] bytes) throws GeneralSecurityException {
+        Cipher cipher = legacyCipher.get();
+
+        if (legacy == Legacy.CBC) {
+            cipher.init(Cipher.DECRYPT_MODE, key, new IvParameterSpec(bytes, 0, CBC_IV_LENGTH));
+
+            return new String(cipher.doFinal(bytes, CBC_IV_LENGTH, bytes.length - CBC_IV_LENGTH), StandardCharsets.UTF_8);
+        }
+
+        cipher.init(Cipher.DECRYPT_MODE, key);
+
+        return new String(cipher.doFinal(bytes), StandardCharsets.UTF_8);
+    }
+
+    private static Cipher cipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 버전 접두사가 없는 기존 암호문의 형식
+     */
+    public enum Legacy {
+        // IV(16바이트) + 암호문
+        CBC("AES/CBC/PKCS5Padding"),
+        // AESUtil 이 "AES" 로 만든 암호문, 기본 변환은 ECB/PKCS5Padding
+        ECB("AES/ECB/PKCS5Padding");
+
+        private final String transformation;
+
+        Legacy(String transformation) {
+            this.transformation = transformation;
+        }
+    }
+}
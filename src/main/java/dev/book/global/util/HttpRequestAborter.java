@@ -0,0 +1,61 @@
+package dev.book.global.util;
+
+import org.apache.hc.core5.concurrent.Cancellable;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 현재 스레드에서 실행 중인 외부 HTTP 요청을 다른 스레드에서 중단할 수 있게 한다.
+ * 스레드 인터럽트로는 블로킹 소켓 읽기가 풀리지 않으므로, 요청 자체를 취소해 커넥션을 닫는다.
+ */
+public final class HttpRequestAborter implements AutoCloseable {
+    private static final ThreadLocal<HttpRequestAborter> CURRENT = new ThreadLocal<>();
+
+    private final AtomicBoolean aborted = new AtomicBoolean();
+    private volatile Cancellable request;
+
+    private HttpRequestAborter() {
+    }
+
+    // 이 스레드에서 이후에 생성되는 요청을 중단 대상으로 등록
+    public static HttpRequestAborter open() {
+        HttpRequestAborter aborter = new HttpRequestAborter();
+        CURRENT.set(aborter);
+
+        return aborter;
+    }
+
+    public static void register(Cancellable request) {
+        HttpRequestAborter aborter = CURRENT.get();
+
+        if (aborter == null) {
+
+            return;
+        }
+
+        aborter.request = request;
+
+        // 중단 요청이 등록보다 먼저 온 경우에도 요청이 남아 있지 않도록 바로 취소
+        if (aborter.aborted.get()) {
+            request.cancel();
+        }
+    }
+
+    public void abort() {
+        aborted.set(true);
+        Cancellable current = request;
+
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    public boolean isAborted() {
+        return aborted.get();
+    }
+
+    @Override
+    public void close() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,86 @@
+package dev.book.global.util;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * application/x-www-form-urlencoded 형식으로 인코딩된 본문을 읽으면서 바로 디코딩한다.
+ * 전체 본문을 문자열로 올린 뒤 URLDecoder 를 적용하지 않아도 되도록 스트림 단위로 처리한다.
+ */
+public class UrlDecodingInputStream extends FilterInputStream {
+
+    public UrlDecodingInputStream(InputStream in) {
+        super(new BufferedInputStream(in));
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+
+        if (b == '+') {
+
+            return ' ';
+        }
+
+        if (b != '%') {
+
+            return b;
+        }
+
+        int high = Character.digit(in.read(), 16);
+        int low = Character.digit(in.read(), 16);
+
+        if (high < 0 || low < 0) {
+            throw new IOException("잘못된 URL 인코딩입니다.");
+        }
+
+        return (high << 4) | low;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+
+            return 0;
+        }
+
+        int count = 0;
+
+        while (count < len) {
+            int c = read();
+
+            if (c == -1) {
+
+                return count == 0 ? -1 : count;
+            }
+
+            b[off + count++] = (byte) c;
+        }
+
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+
+        while (skipped < n && read() != -1) {
+            skipped++;
+        }
+
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        // 인코딩된 바이트 수와 디코딩된 바이트 수가 달라 정확히 알 수 없음
+        return 0;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
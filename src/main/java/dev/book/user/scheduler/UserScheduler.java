@@ -1,43 +1,55 @@
 package dev.book.user.scheduler;
 
-import dev.book.achievement.achievement_user.entity.IndividualAchievementStatus;
 import dev.book.achievement.achievement_user.repository.IndividualAchievementStatusRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class UserScheduler {
 
+    // 한 트랜잭션에서 갱신할 id 범위, 잠금과 undo 로그가 한 번에 커지지 않도록 나눔
+    private static final long ROLLOVER_CHUNK_SIZE = 10_000;
+
     private final IndividualAchievementStatusRepository individualAchievementStatusRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 매일 자정에 접속 했는지의 여부를 false로 되돌려 놓는다.
+     * 엔티티를 불러오지 않고 id 범위마다 UPDATE 한 번으로 처리하며, 범위마다 따로 커밋한다.
+     * 중간에 실패하면 이미 처리한 범위는 커밋된 상태이므로 다시 실행하지 말고 로그의 id 부터 이어서 처리해야 한다.
      */
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
     public void setEveryUserIsLoginFalse(){
-        List<IndividualAchievementStatus> individualAchievementStatuses
-                = individualAchievementStatusRepository.findAll();
-        individualAchievementStatuses.forEach(
-                ias -> {
-                    if (ias.isLoginYesterday() && !ias.isLoginToday()) {
-                        //어제 로그인 했는데 오늘 로그인 x -> reset
-                        ias.resetConsecutiveLogins();
-                        ias.loginYesterday(false);
-                    }
-                    else {
-                            //어제 로그인 x, 오늘 로그인 -> 연속의 시작
-                        if (ias.isLoginToday()) ias.loginYesterday(true);
-                            //어제 로그인 x, 오늘도 로그인 x -> reset
-                        else ias.resetConsecutiveLogins();
-                    }
-                    ias.loginToday(false);
-                });
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long maxId = individualAchievementStatusRepository.findMaxId();
+        long updated = 0;
+        long fromId = 0;
+
+        try {
+            while (fromId < maxId) {
+                long from = fromId;
+                long to = Math.min(fromId + ROLLOVER_CHUNK_SIZE, maxId);
+                Integer count = transactionTemplate.execute(status -> individualAchievementStatusRepository.rolloverLogin(from, to));
+                updated += count == null ? 0 : count;
+                fromId = to;
+            }
+        } catch (RuntimeException e) {
+            log.error("[User] 로그인 현황 갱신 실패, id {} 초과부터 처리되지 않았습니다.", fromId, e);
+
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("user.login_rollover"));
+            meterRegistry.counter("user.login_rollover.rows").increment(updated);
+        }
 
+        log.info("[User] 로그인 현황 {}건 갱신", updated);
     }
 }
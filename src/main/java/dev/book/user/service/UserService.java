@@ -5,6 +5,7 @@ import dev.book.achievement.achievement_user.entity.AchievementUser;
 import dev.book.achievement.achievement_user.repository.AchievementUserRepository;
 import dev.book.global.config.security.dto.CustomUserDetails;
 import dev.book.global.config.security.jwt.JwtUtil;
+import dev.book.global.config.security.service.PrincipalCache;
 import dev.book.global.config.security.service.refresh.RefreshTokenService;
 import dev.book.global.entity.Category;
 import dev.book.global.exception.category.CategoryErrorCode;
@@ -41,6 +42,7 @@ public class UserService {
     private final RefreshTokenService refreshTokenService;
     private final IndividualAchievementStatusService individualAchievementStatusService;
     private final JwtUtil jwtUtil;
+    private final PrincipalCache principalCache;
 
     public UserProfileResponse getUserProfile(CustomUserDetails userDetails) {
         return UserProfileResponse.fromEntity(userDetails.user());
@@ -55,6 +57,7 @@ public class UserService {
                 .orElseThrow(() -> new UserErrorException(UserErrorCode.USER_NOT_FOUND));
         user.updateNickname(profileUpdateRequest.nickname());
         user.updateProfileImage(profileUpdateRequest.profileImageUrl());
+        principalCache.invalidate(user.getEmail());
         return UserProfileResponse.fromEntity(user);
     }
 
@@ -76,6 +79,7 @@ public class UserService {
         refreshTokenService.deleteRefreshToken(user);
         individualAchievementStatusService.deleteIndividualAchievementStatus(user);
         userRepository.delete(user);
+        principalCache.invalidate(user.getEmail());
         jwtUtil.deleteAccessTokenAndRefreshToken(request, response);
     }
 
@@ -123,6 +127,7 @@ public class UserService {
         UserEntity user = userRepository.findByEmail(userDetails.getUsername())
                         .orElseThrow(() -> new UserErrorException(UserErrorCode.USER_NOT_FOUND));
         user.deleteNickname();
+        principalCache.invalidate(user.getEmail());
     }
 
     /**
@@ -162,7 +167,9 @@ public class UserService {
      * @return
      */
     public UserChallengeInfoResponse getUserChallengeInfo(CustomUserDetails userDetails) {
-        UserEntity user = userDetails.user();
+        // 챌린지 참여·종료·정산으로 바뀌는 카운터는 캐시된 인증 정보가 아닌 DB 에서 조회
+        UserEntity user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UserErrorException(UserErrorCode.USER_NOT_FOUND));
         return new UserChallengeInfoResponse(user.getSavings(), user.getCompletedChallenges(),
                 user.getParticipatingChallenges(), user.getFinishedChallenge());
     }
@@ -1,36 +1,27 @@
 package dev.book.user.user_friend.util;
 
+import dev.book.global.util.AesCrypto;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.Cipher;
-import javax.crypto.spec.SecretKeySpec;
-import java.util.Base64;
-
 @Component
 public class AESUtil {
-    private static final String ALGORITHM = "AES";
 
-    private static String SECRET_KEY;
+    private static AesCrypto CRYPTO;
 
     @Value("${spring.aes.secret}")
     public void setSecretKey(String secretKey){
-        AESUtil.SECRET_KEY = secretKey;
+        AESUtil.CRYPTO = new AesCrypto(secretKey, AesCrypto.Legacy.ECB);
     }
 
     public static String encrypt(String input) throws Exception {
-        SecretKeySpec secretKey = new SecretKeySpec(SECRET_KEY.getBytes(), ALGORITHM);
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-        cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-        byte[] enc = cipher.doFinal(input.getBytes());
-        return Base64.getEncoder().encodeToString(enc);
+        return CRYPTO.encrypt(input);
     }
 
+    /**
+     * AES-GCM 토큰과 기존 ECB 토큰을 모두 복호화합니다.
+     */
     public static String decrypt(String encrypted) throws Exception {
-        SecretKeySpec secretKey = new SecretKeySpec(SECRET_KEY.getBytes(), ALGORITHM);
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, secretKey);
-        byte[] dec = cipher.doFinal(Base64.getDecoder().decode(encrypted));
-        return new String(dec);
+        return CRYPTO.decrypt(encrypted);
     }
 }
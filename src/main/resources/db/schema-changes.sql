@@ -0,0 +1,78 @@
+-- 운영(prod)은 ddl-auto: none 이므로 엔티티에 추가된 테이블, 컬럼, 인덱스를 배포 전에 직접 반영한다.
+-- MySQL 8.0.13 이상 기준. 위에서부터 순서대로 실행하며, 애플리케이션은 모든 변경이 반영된 뒤 배포한다.
+
+-- [가계부 목록 커서 페이지네이션] (user_id, occurred_at, id) 순서로 다음 페이지를 찾음
+CREATE INDEX idx_account_book_user_occurred_at ON account_book (user_id, occurred_at, id);
+
+-- [일별 집계] 통계, 달력, 예산 합계를 읽는 테이블
+-- 기존 가계부는 기동 시 AccountBookSummaryBackfill 이 채우므로, 테이블이 없으면 첫 배포가 기동에 실패함
+CREATE TABLE account_book_daily_summary
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT       NOT NULL,
+    occurred_at  DATE         NOT NULL,
+    category_id  BIGINT       NOT NULL,
+    type         VARCHAR(255) NOT NULL,
+    total_amount BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_daily_summary_user_date_category_type UNIQUE (user_id, occurred_at, category_id, type)
+);
+
+-- [예산 누적 지출] 기존 예산의 값은 기동 시 백필과 매일 새벽 보정 작업이 가계부에서 다시 계산함
+ALTER TABLE budget
+    ADD COLUMN spent_amount BIGINT NOT NULL DEFAULT 0;
+
+-- [거래 내역 증분 동기화] 기존 계좌는 오늘 날짜로 채워 90일 전체를 다시 받지 않음
+ALTER TABLE codef
+    ADD COLUMN last_synced_date DATE DEFAULT (CURRENT_DATE);
+
+-- [거래 내역 중복 제거] 기존 임시 가계부는 지문이 NULL 이라 유니크 키에 걸리지 않음
+ALTER TABLE temp_account_book
+    ADD COLUMN fingerprint VARCHAR(64),
+    ADD COLUMN imported    BIT(1) NOT NULL DEFAULT b'0',
+    ADD CONSTRAINT uk_temp_account_book_user_fingerprint UNIQUE (user_id, fingerprint);
+
+-- [챌린지 중복 참여 방지] 이미 중복된 참여가 있으면 먼저 정리해야 제약 조건이 추가됨
+ALTER TABLE user_challenge
+    ADD CONSTRAINT uk_user_challenge_user_challenge UNIQUE (user_id, challenge_id);
+
+-- [업적 현황 동시 갱신] 이벤트 타입별로 따로 처리되는 핸들러의 갱신 손실 방지
+ALTER TABLE individual_achievement_status
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- [알림 outbox] 커밋과 함께 기록하고 OutboxRelay 가 전송
+CREATE TABLE outbox_event
+(
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    event_type      VARCHAR(50)  NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)  NOT NULL,
+    published_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_outbox_idempotency_key UNIQUE (idempotency_key),
+    INDEX idx_outbox_status_next_attempt (status, next_attempt_at)
+);
+
+-- [세션별 리프레시 토큰] 기존 토큰은 원문이라 옮길 수 없으므로 다시 만들고, 기존 사용자는 한 번 다시 로그인함
+DROP TABLE refresh_token;
+
+CREATE TABLE refresh_token
+(
+    id                  BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id             BIGINT      NOT NULL,
+    session_id          VARCHAR(36) NOT NULL,
+    token_hash          VARCHAR(64) NOT NULL,
+    previous_token_hash VARCHAR(64),
+    expires_at          DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+    CONSTRAINT uk_refresh_token_user_session UNIQUE (user_id, session_id),
+    INDEX idx_refresh_token_previous_hash (previous_token_hash),
+    INDEX idx_refresh_token_expires_at (expires_at),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES user_entity (id)
+);
@@ -0,0 +1,96 @@
+package dev.book.accountbook.repository;
+
+import dev.book.accountbook.entity.TempAccountBook;
+import dev.book.accountbook.type.CategoryType;
+import dev.book.user.entity.UserEntity;
+import dev.book.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+public class TempAccountBookBatchInsertBenchmarkTest {
+    private static final int ROW_COUNT = 1_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TempAccountBookRepository tempAccountBookRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UserEntity user;
+
+    @BeforeEach
+    public void createUser() {
+        user = userRepository.save(UserEntity.builder()
+                .email("test@example.com")
+                .name("홍길동")
+                .nickname("길동이")
+                .profileImageUrl("test")
+                .build());
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        tempAccountBookRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("1,000건을 saveAll 과 JDBC 배치로 저장하며 처리량을 기록하고, 같은 건수가 저장된다.")
+    void batchInsertThroughput() {
+        // given
+        List<TempAccountBook> warmUp = createRows("warm-up", 100);
+        transactionTemplate.executeWithoutResult(status -> tempAccountBookRepository.saveAll(warmUp));
+        transactionTemplate.executeWithoutResult(status -> tempAccountBookRepository.batchInsert(createRows("warm-up-batch", 100)));
+        tempAccountBookRepository.deleteAllInBatch();
+
+        List<TempAccountBook> jpaRows = createRows("jpa", ROW_COUNT);
+        List<TempAccountBook> jdbcRows = createRows("jdbc", ROW_COUNT);
+
+        // when
+        long jpaStart = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> tempAccountBookRepository.saveAll(jpaRows));
+        long jpaElapsed = System.nanoTime() - jpaStart;
+
+        long jdbcStart = System.nanoTime();
+        Integer saved = transactionTemplate.execute(status -> tempAccountBookRepository.batchInsert(jdbcRows));
+        long jdbcElapsed = System.nanoTime() - jdbcStart;
+
+        // then
+        log.info("saveAll: {} rows/sec, batchInsert: {} rows/sec", rowsPerSecond(jpaElapsed), rowsPerSecond(jdbcElapsed));
+
+        assertThat(saved).isEqualTo(ROW_COUNT);
+        assertThat(tempAccountBookRepository.count()).isEqualTo(ROW_COUNT * 2L);
+    }
+
+    private List<TempAccountBook> createRows(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TempAccountBook("거래 " + i, "메모_" + i, 1000 + i, CategoryType.SPEND, user,
+                        LocalDate.of(2025, 4, 1).plusDays(i % 30), prefix + "-" + i))
+                .toList();
+    }
+
+    private long rowsPerSecond(long elapsedNanos) {
+        return ROW_COUNT * 1_000_000_000L / Math.max(elapsedNanos, 1);
+    }
+}
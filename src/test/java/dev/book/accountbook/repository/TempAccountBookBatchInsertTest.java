@@ -0,0 +1,102 @@
+package dev.book.accountbook.repository;
+
+import dev.book.accountbook.entity.TempAccountBook;
+import dev.book.accountbook.type.CategoryType;
+import dev.book.user.entity.UserEntity;
+import dev.book.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class TempAccountBookBatchInsertTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TempAccountBookRepository tempAccountBookRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UserEntity user;
+
+    @BeforeEach
+    public void createUser() {
+        user = userRepository.save(UserEntity.builder()
+                .email("test@example.com")
+                .name("홍길동")
+                .nickname("길동이")
+                .profileImageUrl("test")
+                .build());
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        tempAccountBookRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("이미 저장된 지문은 건너뛰고 새로 저장한 건수만 반환한다.")
+    void batchInsertSkipsKnownFingerprints() {
+        // given
+        transactionTemplate.execute(status -> tempAccountBookRepository.batchInsert(createRows(0, 10)));
+
+        // when
+        Integer saved = transactionTemplate.execute(status -> tempAccountBookRepository.batchInsert(createRows(5, 15)));
+
+        // then
+        assertThat(saved).isEqualTo(5);
+        assertThat(tempAccountBookRepository.count()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("같은 구간을 동시에 동기화해도 예외 없이 거래가 한 번씩만 저장된다.")
+    void overlappingSyncsSaveEachTransactionOnce() {
+        // given
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> insertAfter(start, createRows(0, 300)));
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> insertAfter(start, createRows(100, 400)));
+        start.countDown();
+
+        // then
+        assertThat(first.join() + second.join()).isEqualTo(400);
+        assertThat(tempAccountBookRepository.count()).isEqualTo(400);
+    }
+
+    private Integer insertAfter(CountDownLatch start, List<TempAccountBook> rows) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException(e);
+        }
+
+        return transactionTemplate.execute(status -> tempAccountBookRepository.batchInsert(rows));
+    }
+
+    private List<TempAccountBook> createRows(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> new TempAccountBook("거래 " + i, "메모_" + i, 1000 + i, CategoryType.SPEND, user,
+                        LocalDate.of(2025, 4, 1).plusDays(i % 30), "fingerprint-" + i))
+                .toList();
+    }
+}
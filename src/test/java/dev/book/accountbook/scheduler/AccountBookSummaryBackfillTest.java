@@ -0,0 +1,74 @@
+package dev.book.accountbook.scheduler;
+
+import dev.book.accountbook.repository.AccountBookDailySummaryRepository;
+import dev.book.accountbook.service.AccountBookSummaryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBookSummaryBackfillTest {
+    @Mock
+    private AccountBookDailySummaryRepository summaryRepository;
+    @Mock
+    private AccountBookSummaryService accountBookSummaryService;
+    @InjectMocks
+    private AccountBookSummaryBackfill backfill;
+
+    @Test
+    @DisplayName("집계가 없는 사용자만 다시 계산하고 예산 누적 지출을 보정한다.")
+    void backfillUsersWithoutSummary() {
+        // given
+        ReflectionTestUtils.setField(backfill, "backfillOnStartup", true);
+        given(summaryRepository.findUserIdsWithoutSummary()).willReturn(List.of(1L, 2L));
+
+        // when
+        backfill.backfillOnStartup();
+
+        // then
+        verify(accountBookSummaryService).rebuild(1L);
+        verify(accountBookSummaryService).rebuild(2L);
+        verify(summaryRepository, never()).findUserIdsWithAccountBook();
+        verify(accountBookSummaryService).reconcileAllBudgets();
+    }
+
+    @Test
+    @DisplayName("한 사용자의 백필이 실패해도 나머지 사용자는 계속 처리한다.")
+    void continueAfterFailure() {
+        // given
+        willThrow(new IllegalStateException("fail")).given(accountBookSummaryService).rebuild(1L);
+
+        // when
+        int rebuilt = backfill.backfill(List.of(1L, 2L));
+
+        // then
+        assertThat(rebuilt).isEqualTo(1);
+        verify(accountBookSummaryService).rebuild(2L);
+    }
+
+    @Test
+    @DisplayName("백필할 사용자가 없으면 예산을 보정하지 않는다.")
+    void skipWhenNothingToBackfill() {
+        // given
+        ReflectionTestUtils.setField(backfill, "backfillOnStartup", true);
+        given(summaryRepository.findUserIdsWithoutSummary()).willReturn(List.of());
+
+        // when
+        backfill.backfillOnStartup();
+
+        // then
+        verify(accountBookSummaryService, never()).reconcileAllBudgets();
+    }
+}
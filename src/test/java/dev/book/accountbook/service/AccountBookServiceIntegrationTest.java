@@ -10,6 +10,7 @@ import dev.book.accountbook.dto.response.AccountBookSpendListResponse;
 import dev.book.accountbook.dto.response.AccountBookSpendResponse;
 import dev.book.accountbook.entity.AccountBook;
 import dev.book.accountbook.exception.accountbook.AccountBookErrorException;
+import dev.book.accountbook.repository.AccountBookDailySummaryRepository;
 import dev.book.accountbook.repository.AccountBookRepository;
 import dev.book.accountbook.repository.BudgetRepository;
 import dev.book.accountbook.type.CategoryType;
@@ -63,6 +64,12 @@ public class AccountBookServiceIntegrationTest {
     @Autowired
     private AccountBookRepository accountBookRepository;
 
+    @Autowired
+    private AccountBookDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private AccountBookSummaryService summaryService;
+
     @Autowired
     private BudgetRepository budgetRepository;
 
@@ -107,10 +114,12 @@ public class AccountBookServiceIntegrationTest {
         );
 
         savedBooks = accountBookRepository.saveAll(books);
+        summaryService.rebuild(user.getId());
     }
 
     @AfterEach
     public void cleanUp() {
+        summaryRepository.deleteAllInBatch();
         budgetRepository.deleteAllInBatch();
         accountBookRepository.deleteAllInBatch();
         userRepository.deleteAllInBatch();
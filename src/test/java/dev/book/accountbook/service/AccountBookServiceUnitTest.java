@@ -1,14 +1,17 @@
 package dev.book.accountbook.service;
 
+import dev.book.accountbook.dto.request.AccountBookCursor;
 import dev.book.accountbook.dto.request.AccountBookIncomeRequest;
 import dev.book.accountbook.dto.request.AccountBookSpendRequest;
 import dev.book.accountbook.dto.request.Repeat;
 import dev.book.accountbook.dto.response.AccountBookIncomeListResponse;
 import dev.book.accountbook.dto.response.AccountBookIncomeResponse;
+import dev.book.accountbook.dto.response.AccountBookSliceResponse;
 import dev.book.accountbook.dto.response.AccountBookSpendListResponse;
 import dev.book.accountbook.dto.response.AccountBookSpendResponse;
 import dev.book.accountbook.entity.AccountBook;
 import dev.book.accountbook.exception.accountbook.AccountBookErrorException;
+import dev.book.accountbook.repository.AccountBookDailySummaryRepository;
 import dev.book.accountbook.repository.AccountBookRepository;
 import dev.book.accountbook.repository.BudgetRepository;
 import dev.book.accountbook.type.CategoryType;
@@ -16,7 +19,7 @@ import dev.book.accountbook.type.Frequency;
 import dev.book.achievement.achievement_user.service.IndividualAchievementStatusService;
 import dev.book.challenge.rank.SpendCreatedRankingEvent;
 import dev.book.global.entity.Category;
-import dev.book.global.repository.CategoryRepository;
+import dev.book.global.repository.CategoryRegistry;
 import dev.book.user.entity.UserEntity;
 import dev.book.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -30,9 +33,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,12 +55,16 @@ class AccountBookServiceUnitTest {
     @Mock
     private AccountBookRepository accountBookRepository;
     @Mock
-    private CategoryRepository categoryRepository;
+    private CategoryRegistry categoryRegistry;
     @Mock
     private UserRepository userRepository;
     @Mock
     private BudgetRepository budgetRepository;
     @Mock
+    private AccountBookDailySummaryRepository summaryRepository;
+    @Mock
+    private AccountBookSummaryService summaryService;
+    @Mock
     private ApplicationEventPublisher publisher;
     @Mock
     IndividualAchievementStatusService individualAchievementStatusService;
@@ -134,7 +143,7 @@ class AccountBookServiceUnitTest {
         AccountBook saved = request.toEntity(user, new Category("food", "식비"));
 
         given(accountBookRepository.save(any(AccountBook.class))).willReturn(saved);
-        given(categoryRepository.findByCategory("food")).willReturn(Optional.of(new Category("food", "식비")));
+        given(categoryRegistry.findByCode("food")).willReturn(Optional.of(new Category("food", "식비")));
         willDoNothing().given(publisher).publishEvent(any(SpendCreatedRankingEvent.class));
 
         // when
@@ -159,7 +168,7 @@ class AccountBookServiceUnitTest {
         AccountBook saved = request.toEntity(user, new Category("food", "식비"));
 
         given(accountBookRepository.save(any(AccountBook.class))).willReturn(saved);
-        given(categoryRepository.findByCategory("food")).willReturn(Optional.of(new Category("food", "식비")));
+        given(categoryRegistry.findByCode("food")).willReturn(Optional.of(new Category("food", "식비")));
 
         // when
         AccountBookSpendResponse result = accountBookService.createSpend(request, user);
@@ -188,7 +197,7 @@ class AccountBookServiceUnitTest {
                 "커피", 5000, "스타벅스", LocalDateTime.of(2025, 4, 1, 0, 0), occurredAt, repeat, "cafe_snack");
 
         given(accountBookRepository.findById(id)).willReturn(Optional.of(accountBook));
-        given(categoryRepository.findByCategory("cafe_snack")).willReturn(Optional.of(new Category("cafe_snack", "카페 / 간식")));
+        given(categoryRegistry.findByCode("cafe_snack")).willReturn(Optional.of(new Category("cafe_snack", "카페 / 간식")));
 
         // when
         AccountBookSpendResponse result = accountBookService.modifySpend(request, id, userId);
@@ -290,7 +299,7 @@ class AccountBookServiceUnitTest {
         AccountBook saved = request.toEntity(user, new Category("salary", "급여"));
 
         given(accountBookRepository.save(any(AccountBook.class))).willReturn(saved);
-        given(categoryRepository.findByCategory("salary")).willReturn(Optional.of(new Category("salary", "급여")));
+        given(categoryRegistry.findByCode("salary")).willReturn(Optional.of(new Category("salary", "급여")));
 
         // when
         AccountBookIncomeResponse result = accountBookService.createIncome(request, user);
@@ -313,7 +322,7 @@ class AccountBookServiceUnitTest {
         AccountBook saved = request.toEntity(user, new Category("salary", "급여"));
 
         given(accountBookRepository.save(any(AccountBook.class))).willReturn(saved);
-        given(categoryRepository.findByCategory("salary")).willReturn(Optional.of(new Category("salary", "급여")));
+        given(categoryRegistry.findByCode("salary")).willReturn(Optional.of(new Category("salary", "급여")));
 
         // when
         AccountBookIncomeResponse result = accountBookService.createIncome(request, user);
@@ -342,7 +351,7 @@ class AccountBookServiceUnitTest {
 
 
         given(accountBookRepository.findById(id)).willReturn(Optional.of(accountBook));
-        given(categoryRepository.findByCategory("salary")).willReturn(Optional.of(new Category("salary", "급여")));
+        given(categoryRegistry.findByCode("salary")).willReturn(Optional.of(new Category("salary", "급여")));
 
         // when
         AccountBookIncomeResponse result = accountBookService.modifyIncome(id, request, userId);
@@ -382,4 +391,55 @@ class AccountBookServiceUnitTest {
                 .isInstanceOf(AccountBookErrorException.class)
                 .hasMessage("존재하지 않는 수입내역입니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서 조회 시 다음 페이지가 있으면 마지막 항목 기준 커서를 반환한다.")
+    void getSpendSlice() {
+        // given
+        UserEntity userEntity = mock(UserEntity.class);
+        Category category = new Category("food", "식비");
+        List<AccountBook> accountBooks = new ArrayList<>();
+
+        for (long i = 11; i > 0; i--) {
+            AccountBook accountBook = new AccountBook("핫도그", CategoryType.SPEND, 3000, null, "야식", userEntity, null, null, null, category, occurredAt);
+            ReflectionTestUtils.setField(accountBook, "id", i);
+            accountBooks.add(accountBook);
+        }
+
+        given(accountBookRepository.findSliceByType(anyLong(), any(), any(), anyLong(), any())).willReturn(accountBooks);
+
+        // when
+        AccountBookSliceResponse<AccountBookSpendResponse> result = accountBookService.getSpendSlice(userId, null);
+
+        // then
+        assertThat(result.content()).hasSize(10);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(AccountBookCursor.decode(result.nextCursor())).isEqualTo(new AccountBookCursor(occurredAt, 2L));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지이면 다음 커서가 없다.")
+    void getSpendSliceLast() {
+        // given
+        AccountBook accountBook = new AccountBook("핫도그", CategoryType.SPEND, 3000, null, "야식", mock(UserEntity.class), null, null, null, new Category("food", "식비"), occurredAt);
+        given(accountBookRepository.findSliceByType(anyLong(), any(), any(), anyLong(), any())).willReturn(List.of(accountBook));
+
+        // when
+        AccountBookSliceResponse<AccountBookSpendResponse> result = accountBookService.getSpendSlice(userId, new AccountBookCursor(occurredAt, 50L).encode());
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회하면 예외가 발생한다.")
+    void failGetSpendSlice() {
+        // when
+        // then
+        assertThatThrownBy(() -> accountBookService.getSpendSlice(userId, "invalid"))
+                .isInstanceOf(AccountBookErrorException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+}
@@ -0,0 +1,102 @@
+package dev.book.accountbook.service;
+
+import dev.book.accountbook.entity.AccountBook;
+import dev.book.accountbook.repository.AccountBookDailySummaryRepository;
+import dev.book.accountbook.repository.BudgetRepository;
+import dev.book.accountbook.type.CategoryType;
+import dev.book.global.entity.Category;
+import dev.book.user.entity.UserEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBookSummaryServiceUnitTest {
+    @Mock
+    private BudgetRepository budgetRepository;
+    @Mock
+    private AccountBookDailySummaryRepository summaryRepository;
+    @InjectMocks
+    private AccountBookSummaryService summaryService;
+
+    static LocalDate occurredAt = LocalDate.of(2025, 4, 22);
+
+    @Test
+    @DisplayName("같은 날짜, 카테고리의 내역은 합산해서 한 번만 반영한다.")
+    void applyAll() {
+        // given
+        UserEntity user = mock(UserEntity.class);
+        given(user.getId()).willReturn(1L);
+        Category food = category(10L, "food", "식비");
+        Category cafe = category(11L, "cafe_snack", "카페 / 간식");
+
+        List<AccountBook> accountBooks = List.of(
+                new AccountBook("점심", CategoryType.SPEND, 8000, null, null, user, null, null, null, food, occurredAt),
+                new AccountBook("저녁", CategoryType.SPEND, 12000, null, null, user, null, null, null, food, occurredAt),
+                new AccountBook("커피", CategoryType.SPEND, 4500, null, null, user, null, null, null, cafe, occurredAt)
+        );
+
+        // when
+        summaryService.applyAll(accountBooks);
+
+        // then
+        verify(summaryRepository).upsertAmount(1L, occurredAt, 10L, "SPEND", 20000L);
+        verify(summaryRepository).upsertAmount(1L, occurredAt, 11L, "SPEND", 4500L);
+        verify(summaryRepository, times(2)).upsertAmount(anyLong(), any(), anyLong(), anyString(), anyLong());
+        verify(budgetRepository).addSpentAmount(1L, 4, 24500L);
+    }
+
+    @Test
+    @DisplayName("내역을 되돌리면 금액을 차감한다.")
+    void revert() {
+        // given
+        UserEntity user = mock(UserEntity.class);
+        given(user.getId()).willReturn(1L);
+        AccountBook accountBook = new AccountBook("점심", CategoryType.SPEND, 8000, null, null, user, null, null, null, category(10L, "food", "식비"), occurredAt);
+
+        // when
+        summaryService.revert(accountBook);
+
+        // then
+        verify(summaryRepository).upsertAmount(1L, occurredAt, 10L, "SPEND", -8000L);
+        verify(budgetRepository).addSpentAmount(1L, 4, -8000L);
+    }
+
+    @Test
+    @DisplayName("발생일이 없는 내역은 집계하지 않는다.")
+    void skipWithoutOccurredAt() {
+        // given
+        AccountBook accountBook = new AccountBook("급여", CategoryType.INCOME, 3000000, null, null, mock(UserEntity.class), null, null, null, category(20L, "salary", "급여"), null);
+
+        // when
+        summaryService.apply(accountBook);
+
+        // then
+        verify(summaryRepository, never()).upsertAmount(anyLong(), any(), anyLong(), anyString(), anyLong());
+        verify(budgetRepository, never()).addSpentAmount(anyLong(), anyInt(), anyLong());
+    }
+
+    private Category category(Long id, String name, String korean) {
+        Category category = new Category(name, korean);
+        ReflectionTestUtils.setField(category, "id", id);
+
+        return category;
+    }
+}
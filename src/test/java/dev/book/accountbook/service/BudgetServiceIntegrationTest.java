@@ -5,6 +5,7 @@ import dev.book.accountbook.dto.response.BudgetResponse;
 import dev.book.accountbook.entity.AccountBook;
 import dev.book.accountbook.entity.Budget;
 import dev.book.accountbook.exception.accountbook.AccountBookErrorException;
+import dev.book.accountbook.repository.AccountBookDailySummaryRepository;
 import dev.book.accountbook.repository.AccountBookRepository;
 import dev.book.accountbook.repository.BudgetRepository;
 import dev.book.accountbook.type.CategoryType;
@@ -54,6 +55,12 @@ public class BudgetServiceIntegrationTest {
     @Autowired
     private AccountBookRepository accountBookRepository;
 
+    @Autowired
+    private AccountBookDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private AccountBookSummaryService summaryService;
+
     @Autowired
     private BudgetRepository budgetRepository;
 
@@ -94,12 +101,14 @@ public class BudgetServiceIntegrationTest {
         );
 
         savedBooks = accountBookRepository.saveAll(books);
+        summaryService.rebuild(user.getId());
 
         savedBudget = budgetRepository.save(new Budget(100000, 4, user));
     }
 
     @AfterEach
     public void cleanUp() {
+        summaryRepository.deleteAllInBatch();
         accountBookRepository.deleteAllInBatch();
         budgetRepository.deleteAllInBatch();
         userRepository.deleteAllInBatch();
@@ -33,6 +33,9 @@ class BudgetServiceUnitTest {
     @Mock
     private BudgetRepository budgetRepository;
 
+    @Mock
+    private AccountBookSummaryService summaryService;
+
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
@@ -0,0 +1,120 @@
+package dev.book.accountbook.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CodefTokenManagerTest {
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private CodefTokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() {
+        tokenManager = new CodefTokenManager(restTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(tokenManager, "CLIENT_ID", "client");
+        ReflectionTestUtils.setField(tokenManager, "CLIENT_SECRET", "secret");
+        ReflectionTestUtils.setField(tokenManager, "refreshBeforeSeconds", 600L);
+    }
+
+    @Test
+    @DisplayName("만료 전까지는 발급받은 토큰을 재사용한다.")
+    void cachesToken() {
+        // given
+        givenTokens(tokenResponse("token-1", 604799));
+
+        // when
+        String first = tokenManager.getToken();
+        String second = tokenManager.getToken();
+
+        // then
+        assertThat(first).isEqualTo("token-1");
+        assertThat(second).isEqualTo("token-1");
+        verify(restTemplate, times(1)).postForEntity(anyString(), any(HttpEntity.class), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("동시에 토큰을 요청해도 발급 요청은 한 번만 보낸다.")
+    void sharesInFlightRefresh() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        given(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(String.class))).willAnswer(invocation -> {
+            release.await();
+
+            return tokenResponse("token-1", 604799);
+        });
+
+        // when
+        List<CompletableFuture<String>> callers = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(tokenManager::getToken))
+                .toList();
+        TimeUnit.MILLISECONDS.sleep(200);
+        release.countDown();
+
+        // then
+        for (CompletableFuture<String> caller : callers) {
+            assertThat(caller.get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+        }
+        verify(restTemplate, times(1)).postForEntity(anyString(), any(HttpEntity.class), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("401을 받은 토큰은 새로 발급받고, 이미 갱신된 경우 다시 발급하지 않는다.")
+    void refreshAfterUnauthorized() {
+        // given
+        givenTokens(tokenResponse("token-1", 604799), tokenResponse("token-2", 604799));
+        String rejected = tokenManager.getToken();
+
+        // when
+        String refreshed = tokenManager.refreshAfterUnauthorized(rejected);
+        String again = tokenManager.refreshAfterUnauthorized(rejected);
+
+        // then
+        assertThat(refreshed).isEqualTo("token-2");
+        assertThat(again).isEqualTo("token-2");
+        verify(restTemplate, times(2)).postForEntity(anyString(), any(HttpEntity.class), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("만료가 임박한 토큰은 스케줄러가 미리 갱신한다.")
+    void refreshIfExpiringSoon() {
+        // given
+        givenTokens(tokenResponse("token-1", 300), tokenResponse("token-2", 604799));
+        tokenManager.getToken();
+
+        // when
+        tokenManager.refreshIfExpiringSoon();
+
+        // then
+        assertThat(tokenManager.getToken()).isEqualTo("token-2");
+        verify(restTemplate, times(2)).postForEntity(anyString(), any(HttpEntity.class), eq(String.class));
+    }
+
+    @SafeVarargs
+    private void givenTokens(ResponseEntity<String> first, ResponseEntity<String>... rest) {
+        given(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(String.class))).willReturn(first, rest);
+    }
+
+    private ResponseEntity<String> tokenResponse(String token, long expiresIn) {
+        return ResponseEntity.ok("{\"access_token\":\"" + token + "\",\"expires_in\":" + expiresIn + "}");
+    }
+}
@@ -4,6 +4,7 @@ import dev.book.accountbook.dto.response.AccountBookConsumeResponse;
 import dev.book.accountbook.dto.response.AccountBookSpendListResponse;
 import dev.book.accountbook.dto.response.AccountBookStatResponse;
 import dev.book.accountbook.entity.AccountBook;
+import dev.book.accountbook.repository.AccountBookDailySummaryRepository;
 import dev.book.accountbook.repository.AccountBookRepository;
 import dev.book.accountbook.type.CategoryType;
 import dev.book.accountbook.type.Frequency;
@@ -48,6 +49,12 @@ public class StatServiceIntegrationTest {
     @Autowired
     private AccountBookRepository accountBookRepository;
 
+    @Autowired
+    private AccountBookDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private AccountBookSummaryService summaryService;
+
     @Autowired
     private CategoryRepository categoryRepository;
 
@@ -93,10 +100,12 @@ public class StatServiceIntegrationTest {
         );
 
         savedBooks = accountBookRepository.saveAll(books);
+        summaryService.rebuild(user.getId());
     }
 
     @AfterEach
     public void cleanUp() {
+        summaryRepository.deleteAllInBatch();
         accountBookRepository.deleteAllInBatch();
         userRepository.deleteAllInBatch();
     }
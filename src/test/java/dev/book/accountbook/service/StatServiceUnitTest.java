@@ -4,6 +4,7 @@ import dev.book.accountbook.dto.response.AccountBookConsumeResponse;
 import dev.book.accountbook.dto.response.AccountBookSpendListResponse;
 import dev.book.accountbook.dto.response.AccountBookStatResponse;
 import dev.book.accountbook.entity.AccountBook;
+import dev.book.accountbook.repository.AccountBookDailySummaryRepository;
 import dev.book.accountbook.repository.AccountBookRepository;
 import dev.book.accountbook.type.CategoryType;
 import dev.book.accountbook.type.Frequency;
@@ -37,6 +38,8 @@ class StatServiceUnitTest {
     @Mock
     private AccountBookRepository accountBookRepository;
     @Mock
+    private AccountBookDailySummaryRepository summaryRepository;
+    @Mock
     private UserRepository userRepository;
     @InjectMocks
     private StatService statService;
@@ -57,7 +60,7 @@ class StatServiceUnitTest {
         );
 
         given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
-        given(accountBookRepository.findTopCategoriesByUserAndPeriod(anyLong(), eq(start), any(LocalDate.class), any()))
+        given(summaryRepository.findTopCategoriesByUserAndPeriod(anyLong(), eq(start), any(LocalDate.class), any()))
                 .willReturn(mockResponses);
 
         // when
@@ -100,8 +103,8 @@ class StatServiceUnitTest {
         Frequency frequency = Frequency.DAILY;
 
         given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
-        given(accountBookRepository.sumSpending(anyLong(), eq(CategoryType.SPEND), any(), any()))
-                .willReturn(10000, 15000);
+        given(summaryRepository.sumAmount(anyLong(), eq(CategoryType.SPEND), any(), any()))
+                .willReturn(10000L, 15000L);
 
         // when
         AccountBookConsumeResponse result = statService.consume(user.getId(), frequency);
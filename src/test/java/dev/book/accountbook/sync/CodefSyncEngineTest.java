@@ -0,0 +1,134 @@
+package dev.book.accountbook.sync;
+
+import dev.book.accountbook.entity.Codef;
+import dev.book.accountbook.service.CodefService;
+import dev.book.global.util.HttpRequestAborter;
+import dev.book.user.entity.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class CodefSyncEngineTest {
+    private final CodefService codefService = mock(CodefService.class);
+    private CodefSyncEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("느린 은행이 있어도 다른 은행의 동기화는 먼저 끝난다.")
+    void slowBankDoesNotStallOthers() throws Exception {
+        // given
+        engine = createEngine(4, 1, 30);
+        UserEntity slowUser = mock(UserEntity.class);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Codef> codefList = List.of(
+                new Codef(slowUser, "0004", "account", "connected"),
+                new Codef(mock(UserEntity.class), "0088", "account", "connected"),
+                new Codef(mock(UserEntity.class), "0088", "account", "connected"),
+                new Codef(mock(UserEntity.class), "0020", "account", "connected")
+        );
+
+        given(codefService.syncTransactions(any())).willAnswer(invocation -> {
+            if (invocation.getArgument(0) == slowUser) {
+                release.await();
+            }
+
+            return 0;
+        });
+
+        // when
+        CompletableFuture<SyncResult> result = CompletableFuture.supplyAsync(() -> engine.synchronize(codefList));
+
+        // then
+        verify(codefService, timeout(2000).times(4)).syncTransactions(any());
+        assertThat(result).isNotDone();
+
+        release.countDown();
+        assertThat(result.get(2, TimeUnit.SECONDS).getSucceeded()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("은행별 동시 요청 수를 넘지 않는다.")
+    void perBankConcurrencyLimit() {
+        // given
+        engine = createEngine(8, 2, 30);
+        ConcurrentHashMap<String, AtomicInteger> running = new ConcurrentHashMap<>();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Codef> codefList = IntStream.range(0, 20)
+                .mapToObj(i -> new Codef(mock(UserEntity.class), "0004", "account", "connected"))
+                .toList();
+
+        given(codefService.syncTransactions(any())).willAnswer(invocation -> {
+            int current = running.computeIfAbsent("0004", code -> new AtomicInteger()).incrementAndGet();
+            maxRunning.accumulateAndGet(current, Math::max);
+            Thread.sleep(20);
+            running.get("0004").decrementAndGet();
+
+            return 0;
+        });
+
+        // when
+        SyncResult result = engine.synchronize(codefList);
+
+        // then
+        assertThat(result.getSucceeded()).isEqualTo(20);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기면 진행 중인 요청을 취소하고 시간 초과로 집계된다.")
+    void userTimeout() {
+        // given
+        engine = createEngine(2, 1, 1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        given(codefService.syncTransactions(any())).willAnswer(invocation -> {
+            // 인터럽트에 반응하지 않는 블로킹 읽기를 흉내 내고, 요청이 취소되어야만 풀려나도록 함
+            HttpRequestAborter.register(() -> {
+                cancelled.countDown();
+
+                return true;
+            });
+
+            cancelled.await(5, TimeUnit.SECONDS);
+
+            throw new ResourceAccessException("요청이 취소되었습니다.");
+        });
+
+        // when
+        SyncResult result = engine.synchronize(List.of(new Codef(mock(UserEntity.class), "0004", "account", "connected")));
+
+        // then
+        assertThat(cancelled.getCount()).isZero();
+        assertThat(result.getTimedOut()).isEqualTo(1);
+    }
+
+    private CodefSyncEngine createEngine(int workerCount, int perBankConcurrency, long timeoutSeconds) {
+        CodefSyncProperties properties = new CodefSyncProperties();
+        properties.setWorkerCount(workerCount);
+        properties.setPerBankConcurrency(perBankConcurrency);
+        properties.setUserTimeoutSeconds(timeoutSeconds);
+
+        return new CodefSyncEngine(codefService, properties, mock(ApplicationEventPublisher.class), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,81 @@
+package dev.book.achievement.achievement_user.repository;
+
+import dev.book.achievement.achievement_user.entity.IndividualAchievementStatus;
+import dev.book.user.entity.UserEntity;
+import dev.book.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class IndividualAchievementStatusRepositoryTest {
+
+    @Autowired
+    private IndividualAchievementStatusRepository individualAchievementStatusRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    public void cleanUp() {
+        individualAchievementStatusRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("로그인 현황을 넘기면 기존 엔티티 갱신 방식과 같은 결과가 된다.")
+    void rolloverLogin() {
+        // given
+        IndividualAchievementStatus streak = create("streak@test.com", true, true, 3);
+        IndividualAchievementStatus missed = create("missed@test.com", true, false, 3);
+        IndividualAchievementStatus started = create("started@test.com", false, true, 1);
+        IndividualAchievementStatus absent = create("absent@test.com", false, false, 2);
+
+        // when
+        int updated = transactionTemplate.execute(status ->
+                individualAchievementStatusRepository.rolloverLogin(0, individualAchievementStatusRepository.findMaxId()));
+
+        // then
+        assertThat(updated).isEqualTo(4);
+        assertStatus(streak, true, 3);
+        assertStatus(missed, false, 0);
+        assertStatus(started, true, 1);
+        assertStatus(absent, false, 0);
+    }
+
+    private IndividualAchievementStatus create(String email, boolean loginYesterday, boolean loginToday, int consecutiveLogins) {
+        UserEntity user = userRepository.save(UserEntity.builder()
+                .email(email)
+                .name("홍길동")
+                .nickname(email)
+                .profileImageUrl("test")
+                .build());
+        IndividualAchievementStatus status = new IndividualAchievementStatus(user);
+        status.loginYesterday(loginYesterday);
+        status.loginToday(loginToday);
+
+        for (int i = 0; i < consecutiveLogins; i++) {
+            status.plusConsecutiveLogins();
+        }
+
+        return individualAchievementStatusRepository.save(status);
+    }
+
+    private void assertStatus(IndividualAchievementStatus before, boolean loginYesterday, long consecutiveLogins) {
+        IndividualAchievementStatus after = individualAchievementStatusRepository.findById(before.getId()).orElseThrow();
+
+        assertThat(after.isLoginYesterday()).isEqualTo(loginYesterday);
+        assertThat(after.isLoginToday()).isFalse();
+        assertThat(after.getConsecutiveLogins()).isEqualTo(consecutiveLogins);
+    }
+}
@@ -7,10 +7,6 @@ import dev.book.achievement.entity.Achievement;
 import dev.book.achievement.exception.AchievementErrorCode;
 import dev.book.achievement.exception.AchievementException;
 import dev.book.achievement.repository.AchievementRepository;
-import dev.book.global.config.Firebase.entity.FcmToken;
-import dev.book.global.config.Firebase.exception.FcmTokenErrorCode;
-import dev.book.global.config.Firebase.exception.FcmTokenErrorException;
-import dev.book.global.config.Firebase.repository.FcmTokenRepository;
 import dev.book.global.config.Firebase.service.FCMService;
 import dev.book.global.sse.service.SseService;
 import dev.book.user.entity.UserEntity;
@@ -38,9 +34,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class AchievementServiceTest {
 
-    @Mock
-    FcmTokenRepository fcmTokenRepository;
-
     @Mock
     AchievementUserRepository achievementUserRepository;
 
@@ -139,29 +132,13 @@ class AchievementServiceTest {
 
     @Test
     @DisplayName("달성한 업적에 대하여 FCM 알림을 보낸다.")
-    void noFcmTokenException() {
-        AchievementAndUser achievementAndUser = getAchievementAndUser();
-        GetAchievementEvent event = new GetAchievementEvent(achievementAndUser.achievement, achievementAndUser.user.getId());
-        given(fcmTokenRepository.findByUserId(anyLong())).willThrow(new FcmTokenErrorException(FcmTokenErrorCode.NOT_FOUND_FCM_TOKEN));
-
-        assertThatThrownBy(() -> achievementService.handleFcmAchievementNotification(event))
-                .isInstanceOf(FcmTokenErrorException.class)
-                .hasMessageContaining("토큰을 찾을 수 없습니다.");
-
-        verify(fcmService, never()).sendAchievementNotification(any(), any());
-    }
-
-    @Test
-    @DisplayName("FCM 토큰이 없을 경우 에러가 발생한다.")
     void handleFcmAchievementNotification() {
         AchievementAndUser achievementAndUser = getAchievementAndUser();
         GetAchievementEvent event = new GetAchievementEvent(achievementAndUser.achievement, achievementAndUser.user.getId());
-        FcmToken fcmToken = mock(FcmToken.class);
-        given(fcmTokenRepository.findByUserId(anyLong())).willReturn(Optional.ofNullable(fcmToken));
 
         achievementService.handleFcmAchievementNotification(event);
 
-        verify(fcmService).sendAchievementNotification(any(), any());
+        verify(fcmService).sendAchievementNotification(achievementAndUser.user.getId(), achievementAndUser.achievement);
     }
 
     @Test
@@ -2,6 +2,7 @@ package dev.book.challenge;
 
 import dev.book.challenge.dto.request.ChallengeCreateRequest;
 import dev.book.challenge.entity.Challenge;
+import dev.book.challenge.exception.ChallengeException;
 import dev.book.challenge.repository.ChallengeRepository;
 import dev.book.challenge.service.ChallengeLockService;
 import dev.book.challenge.service.ChallengeService;
@@ -26,6 +27,7 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -117,4 +119,70 @@ public class ChallengeConcurrencyTest {
         //then
         assertThat(updatedChallenge.getCurrentCapacity()).isEqualTo(11);
     }
+
+    @Test
+    @DisplayName("1,000명이 동시에 참여해도 정원을 넘기지 않는다.")
+    void atomicParticipationConcurrency() throws InterruptedException {
+        //given
+        int numJoiners = 1000;
+        int capacity = 101; // 생성자 포함
+        int numThreads = 32;
+        CountDownLatch countDownLatch = new CountDownLatch(numJoiners);
+        CountDownLatch startCountDownLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger fullCount = new AtomicInteger();
+
+        List<UserEntity> users = new ArrayList<>();
+
+        for (int i = 1; i <= numJoiners; i++) {
+            users.add(UserEntity.builder()
+                    .email("joiner" + i + "@naver.com")
+                    .name("사용자" + i)
+                    .nickname("joiner" + i)
+                    .build());
+        }
+
+        List<UserEntity> savedUsers = userRepository.saveAll(users);
+
+        UserEntity creator = UserEntity.builder().email("test@naver.com").name("생성자").nickname("naver").build();
+        UserEntity savedCreator = userRepository.save(creator);
+        LocalDate startDate = LocalDate.of(2025, 04, 24);
+        LocalDate endDate = LocalDate.of(2025, 04, 30);
+
+        ChallengeCreateRequest challengeCreateRequest = new ChallengeCreateRequest("제목", "내용", "PUBLIC", 100000, capacity, List.of("SHOPPING"), startDate, endDate);
+        Challenge savedChallenge = challengeRepository.save(Challenge.of(challengeCreateRequest, savedCreator));
+
+        for (UserEntity joiner : savedUsers) {
+            executorService.execute(() -> {
+                try {
+                    startCountDownLatch.await();
+                    challengeService.participate(joiner, savedChallenge.getId());
+                    successCount.incrementAndGet();
+                } catch (ChallengeException e) {
+                    fullCount.incrementAndGet();
+                } catch (Exception e) {
+                    log.error(e.getMessage());
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+
+        //when
+        long start = System.nanoTime();
+        startCountDownLatch.countDown();
+        countDownLatch.await();
+        long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        executorService.shutdown();
+
+        //then
+        log.info("참여 요청 {}건 처리 {}ms, 초당 {}건", numJoiners, elapsedMillis, numJoiners * 1000L / elapsedMillis);
+
+        Challenge updatedChallenge = challengeRepository.findById(savedChallenge.getId()).orElseThrow();
+        assertThat(updatedChallenge.getCurrentCapacity()).isEqualTo(capacity);
+        assertThat(successCount.get()).isEqualTo(capacity - 1);
+        assertThat(fullCount.get()).isEqualTo(numJoiners - (capacity - 1));
+        assertThat(userChallengeRepository.count()).isEqualTo(capacity - 1);
+    }
 }
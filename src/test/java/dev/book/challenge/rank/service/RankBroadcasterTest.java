@@ -0,0 +1,102 @@
+package dev.book.challenge.rank.service;
+
+import dev.book.challenge.rank.dto.response.RankDiffResponse;
+import dev.book.challenge.rank.dto.response.RankPositionResponse;
+import dev.book.challenge.rank.dto.response.RankResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RankBroadcasterTest {
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private RankBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    private RankBroadcaster createBroadcaster(boolean diffEnabled) {
+        // 테스트에서는 flush 를 직접 호출하므로 주기 전송이 끼어들지 않도록 window 를 길게 둠
+        return new RankBroadcaster(messagingTemplate, new SimpleMeterRegistry(), 60_000, diffEnabled);
+    }
+
+    @Test
+    @DisplayName("window 안에 들어온 여러 번의 순위 변경은 한 번만 전송한다.")
+    void coalesce() {
+        // given
+        broadcaster = createBroadcaster(false);
+        AtomicInteger computed = new AtomicInteger();
+        List<RankResponse> ranking = List.of(new RankResponse("홍길동", 1000));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            broadcaster.submit(1L, () -> {
+                computed.incrementAndGet();
+
+                return ranking;
+            });
+        }
+        broadcaster.flush();
+        broadcaster.flush();
+
+        // then
+        assertThat(computed.get()).isEqualTo(1);
+        verify(messagingTemplate, times(1)).convertAndSend("/sub/challenge/1/rank", ranking);
+    }
+
+    @Test
+    @DisplayName("diff 모드에서는 달라진 위치만 전송한다.")
+    void diff() {
+        // given
+        broadcaster = createBroadcaster(true);
+        broadcaster.sendNow(1L, List.of(
+                new RankResponse("홍길동", 1000),
+                new RankResponse("김철수", 3000),
+                new RankResponse("이영희", 5000)
+        ));
+
+        // when
+        broadcaster.submit(1L, () -> List.of(
+                new RankResponse("홍길동", 1000),
+                new RankResponse("이영희", 5000),
+                new RankResponse("김철수", 7000)
+        ));
+        broadcaster.flush();
+
+        // then
+        verify(messagingTemplate).convertAndSend("/sub/challenge/1/rank/diff", new RankDiffResponse(3, List.of(
+                new RankPositionResponse(2, "이영희", 5000),
+                new RankPositionResponse(3, "김철수", 7000)
+        )));
+    }
+
+    @Test
+    @DisplayName("diff 모드에서 바뀐 순위가 없으면 전송하지 않는다.")
+    void skipUnchanged() {
+        // given
+        broadcaster = createBroadcaster(true);
+        List<RankResponse> ranking = List.of(new RankResponse("홍길동", 1000));
+        broadcaster.sendNow(1L, ranking);
+
+        // when
+        broadcaster.submit(1L, () -> ranking);
+        broadcaster.flush();
+
+        // then
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(RankDiffResponse.class));
+    }
+}
@@ -0,0 +1,244 @@
+package dev.book.challenge.rank.service;
+
+import dev.book.accountbook.repository.AccountBookRepository;
+import dev.book.challenge.dto.request.ChallengeCreateRequest;
+import dev.book.challenge.entity.Challenge;
+import dev.book.challenge.rank.ChallengeRankResetEvent;
+import dev.book.challenge.rank.dto.response.RankResponse;
+import dev.book.challenge.rank.dto.response.UserSpendResponse;
+import dev.book.challenge.rank.dto.response.UserSpendTotalResponse;
+import dev.book.challenge.repository.ChallengeRepository;
+import dev.book.challenge.user_challenge.repository.UserChallengeRepository;
+import dev.book.global.outbox.repository.OutboxEventRepository;
+import dev.book.util.UserBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RankServiceTest {
+    @InjectMocks
+    private RankService rankService;
+
+    @Mock
+    private ChallengeRepository challengeRepository;
+
+    @Mock
+    private UserChallengeRepository userChallengeRepository;
+
+    @Mock
+    private AccountBookRepository accountBookRepository;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private RankBroadcaster rankBroadcaster;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private Challenge challenge() {
+        ChallengeCreateRequest request = new ChallengeCreateRequest("제목", "내용", "PUBLIC", 1000, 5, List.of("SHOPPING"),
+                LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30));
+
+        return Challenge.of(request, UserBuilder.of("이메일", "작성자"));
+    }
+
+    private void givenSeed(List<UserSpendTotalResponse> totals) {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(challengeRepository.findByIdJoinCategory(1L)).willReturn(Optional.of(challenge()));
+        given(userChallengeRepository.findUserIdByChallengeId(any())).willReturn(List.of(1L, 2L));
+        given(accountBookRepository.findUserSpendingTotals(anyList(), anyList(), any(), any())).willReturn(totals);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RankResponse> lastSubmitted() {
+        ArgumentCaptor<Supplier<List<RankResponse>>> captor = ArgumentCaptor.forClass(Supplier.class);
+        verify(rankBroadcaster, atLeastOnce()).submit(eq(1L), captor.capture());
+
+        return captor.getValue().get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RankResponse> lastSent(int times) {
+        ArgumentCaptor<List<RankResponse>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rankBroadcaster, times(times)).sendNow(eq(1L), captor.capture());
+
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("적재된 순위표에는 지출만 더하고 DB 집계를 다시 하지 않는다.")
+    void applySpendIncrementally() {
+        // given
+        givenSeed(List.of(
+                new UserSpendTotalResponse(1L, "홍길동", 1000),
+                new UserSpendTotalResponse(2L, "김철수", 3000)
+        ));
+        rankService.checkRank(1L);
+
+        // when
+        rankService.applySpend(1L, 1L, "spend-ranking:12", 5000);
+
+        // then
+        assertThat(lastSubmitted()).containsExactly(
+                new RankResponse("김철수", 3000),
+                new RankResponse("홍길동", 6000)
+        );
+        verify(accountBookRepository, times(1)).findUserSpendingTotals(anyList(), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("순위 이벤트가 아직 전송되지 않은 지출은 적재 집계에서 빼고 이벤트로 한 번만 더한다.")
+    void applySpendSeedsWithoutUnrankedSpends() {
+        // given
+        givenSeed(List.of(
+                new UserSpendTotalResponse(1L, "홍길동", 6000),
+                new UserSpendTotalResponse(2L, "김철수", 3000)
+        ));
+        given(accountBookRepository.findUnrankedSpends(anyList(), anyList(), any(), any()))
+                .willReturn(List.of(new UserSpendResponse(1L, 12L, 5000)));
+
+        // when
+        rankService.applySpend(1L, 1L, "spend-ranking:12", 5000);
+
+        // then
+        assertThat(lastSubmitted()).containsExactly(
+                new RankResponse("김철수", 3000),
+                new RankResponse("홍길동", 6000)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 순위 이벤트가 다시 전달되어도 한 번만 반영한다.")
+    void applySpendIdempotent() {
+        // given
+        givenSeed(List.of(
+                new UserSpendTotalResponse(1L, "홍길동", 0),
+                new UserSpendTotalResponse(2L, "김철수", 3000)
+        ));
+
+        // when
+        rankService.applySpend(1L, 1L, "spend-ranking:12", 5000);
+        rankService.applySpend(1L, 1L, "spend-ranking:12", 5000);
+
+        // then
+        assertThat(lastSubmitted()).containsExactly(
+                new RankResponse("김철수", 3000),
+                new RankResponse("홍길동", 5000)
+        );
+    }
+
+    @Test
+    @DisplayName("보정 적재 중에 들어온 지출은 교체된 순위표에도 반영된다.")
+    void repairKeepsSpendAppliedDuringLoad() {
+        // given
+        List<UserSpendTotalResponse> seed = List.of(
+                new UserSpendTotalResponse(1L, "홍길동", 1000),
+                new UserSpendTotalResponse(2L, "김철수", 3000)
+        );
+        givenSeed(seed);
+        rankService.checkRank(1L);
+        given(accountBookRepository.findUserSpendingTotals(anyList(), anyList(), any(), any())).willAnswer(invocation -> {
+            rankService.applySpend(1L, 1L, "spend-ranking:12", 5000);
+
+            return seed;
+        });
+
+        // when
+        rankService.repairLeaderboards();
+
+        // then
+        rankService.checkRank(1L);
+        assertThat(lastSent(2)).containsExactly(
+                new RankResponse("김철수", 3000),
+                new RankResponse("홍길동", 6000)
+        );
+    }
+
+    @Test
+    @DisplayName("전송 완료로 기록되어 새 집계에 포함된 지출은 보정 후 다시 더하지 않는다.")
+    void repairDoesNotDoubleCount() {
+        // given
+        givenSeed(List.of(
+                new UserSpendTotalResponse(1L, "홍길동", 1000),
+                new UserSpendTotalResponse(2L, "김철수", 3000)
+        ));
+        rankService.checkRank(1L);
+        rankService.applySpend(1L, 1L, "spend-ranking:12", 5000);
+        given(accountBookRepository.findUserSpendingTotals(anyList(), anyList(), any(), any())).willReturn(List.of(
+                new UserSpendTotalResponse(1L, "홍길동", 6000),
+                new UserSpendTotalResponse(2L, "김철수", 3000)
+        ));
+        given(outboxEventRepository.findSettledKeys(List.of("spend-ranking:12"))).willReturn(List.of("spend-ranking:12"));
+
+        // when
+        rankService.repairLeaderboards();
+
+        // then
+        rankService.checkRank(1L);
+        assertThat(lastSent(2)).containsExactly(
+                new RankResponse("김철수", 3000),
+                new RankResponse("홍길동", 6000)
+        );
+    }
+
+    @Test
+    @DisplayName("참여자가 바뀌면 순위표를 비우고 다음 조회 때 다시 적재한다.")
+    void resetRank() {
+        // given
+        givenSeed(List.of(new UserSpendTotalResponse(1L, "홍길동", 1000)));
+        rankService.checkRank(1L);
+
+        // when
+        rankService.resetRank(new ChallengeRankResetEvent(1L));
+        rankService.checkRank(1L);
+
+        // then
+        verify(rankBroadcaster).forget(1L);
+        verify(accountBookRepository, times(2)).findUserSpendingTotals(anyList(), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 챌린지의 참여자가 바뀌어도 적재 중인 순위표는 다시 적재하지 않는다.")
+    void resetOfOtherChallengeDoesNotReload() {
+        // given
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(challengeRepository.findByIdJoinCategory(1L)).willReturn(Optional.of(challenge()));
+        given(userChallengeRepository.findUserIdByChallengeId(any())).willReturn(List.of(1L));
+        given(accountBookRepository.findUserSpendingTotals(anyList(), anyList(), any(), any())).willAnswer(invocation -> {
+            rankService.resetRank(new ChallengeRankResetEvent(2L));
+
+            return List.of(new UserSpendTotalResponse(1L, "홍길동", 1000));
+        });
+
+        // when
+        rankService.checkRank(1L);
+
+        // then
+        verify(accountBookRepository, times(1)).findUserSpendingTotals(anyList(), anyList(), any(), any());
+    }
+}
@@ -1,5 +1,6 @@
 package dev.book.challenge.service;
 
+import dev.book.challenge.challenge_invite.entity.ChallengeInvite;
 import dev.book.challenge.challenge_invite.repository.ChallengeInviteRepository;
 import dev.book.challenge.dto.request.ChallengeCreateRequest;
 import dev.book.challenge.dto.request.ChallengeInviteRequest;
@@ -22,6 +23,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -97,4 +99,24 @@ class ChallengeInviteServiceTest {
         assertThatThrownBy(() -> challengeInviteService.invite(1L, requestUser, challengeInviteRequest)).isInstanceOf(ChallengeException.class)
                 .hasMessage("초대할 권한이 없습니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("초대를 수락하면 초대받은 사용자의 참여 챌린지 수가 정확히 1 늘어난다.")
+    void acceptInviteIncrementsOnce() {
+        // given
+        UserEntity requestUser = UserBuilder.of("이메일1", "초대하는 사람");
+        UserEntity inviteUser = UserBuilder.of("이메일2", "초대받는 사람");
+        Challenge challenge = Challenge.of(createRequest(), requestUser);
+        ChallengeInvite challengeInvite = ChallengeInvite.of(requestUser, inviteUser, challenge);
+        int before = inviteUser.getParticipatingChallenges();
+
+        given(challengeInviteRepository.findByIdAndInviteUserId(any(), any())).willReturn(Optional.of(challengeInvite));
+
+        // when
+        challengeInviteService.acceptInvite(1L, inviteUser);
+
+        // then
+        assertThat(inviteUser.getParticipatingChallenges()).isEqualTo(before + 1);
+        verify(userChallengeRepository).save(any());
+    }
+}
@@ -23,6 +23,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -275,4 +276,57 @@ class ChallengeServiceTest {
                 .hasMessage("참여 인원이 초과 하였습니다.");
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("자리가 남아 있으면 조건부 UPDATE 로 자리를 확보하고 참여한다.")
+    void participateAtomically() {
+        // given
+        UserEntity noCreator = UserBuilder.of("이메일2", "사용자");
+        Challenge challenge = Challenge.of(createRequest(), UserBuilder.of("이메일1", "작성자"));
+        given(userRepository.findById(any())).willReturn(Optional.of(noCreator));
+        given(challengeRepository.reserveSeat(1L)).willReturn(1);
+        given(challengeRepository.getReferenceById(1L)).willReturn(challenge);
+
+        // when
+        challengeService.participate(noCreator, 1L);
+
+        // then
+        verify(challengeRepository, never()).findById(any());
+        verify(userChallengeRepository, times(1)).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 중복 참여가 유니크 제약에 걸리면 이미 참여한 챌린지로 처리한다.")
+    void participateAtomicallyDuplicate() {
+        // given
+        UserEntity noCreator = UserBuilder.of("이메일2", "사용자");
+        Challenge challenge = Challenge.of(createRequest(), UserBuilder.of("이메일1", "작성자"));
+        given(userRepository.findById(any())).willReturn(Optional.of(noCreator));
+        given(challengeRepository.reserveSeat(1L)).willReturn(1);
+        given(challengeRepository.getReferenceById(1L)).willReturn(challenge);
+        given(userChallengeRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("uk_user_challenge_user_challenge"));
+
+        // when
+        // then
+        assertThatThrownBy(() -> challengeService.participate(noCreator, 1L)).isInstanceOf(ChallengeException.class)
+                .hasMessage("이미 참여된 챌린지 입니다.");
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("자리를 확보하지 못하면 참여 내역을 저장하지 않는다.")
+    void participateAtomicallyFull() {
+        // given
+        UserEntity noCreator = UserBuilder.of("이메일2", "사용자");
+        Challenge challenge = Challenge.of(createRequest(), UserBuilder.of("이메일1", "작성자"));
+        given(userRepository.findById(any())).willReturn(Optional.of(noCreator));
+        given(challengeRepository.reserveSeat(1L)).willReturn(0);
+        given(challengeRepository.findById(1L)).willReturn(Optional.of(challenge));
+
+        // when
+        // then
+        assertThatThrownBy(() -> challengeService.participate(noCreator, 1L)).isInstanceOf(ChallengeException.class)
+                .hasMessage("참여 인원이 초과 하였습니다.");
+        verify(userChallengeRepository, never()).saveAndFlush(any());
+    }
+}
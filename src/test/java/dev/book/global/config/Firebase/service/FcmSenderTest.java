@@ -0,0 +1,156 @@
+package dev.book.global.config.Firebase.service;
+
+import dev.book.global.config.Firebase.dto.FcmDelivery;
+import dev.book.global.config.Firebase.dto.FcmMessage;
+import dev.book.global.config.Firebase.entity.FcmToken;
+import dev.book.global.config.Firebase.repository.FcmTokenRepository;
+import dev.book.global.config.Firebase.transport.FcmSendResult;
+import dev.book.global.config.Firebase.transport.FcmTransport;
+import dev.book.global.config.bean.FcmSenderProperties;
+import dev.book.user.entity.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class FcmSenderTest {
+    private final FcmTokenRepository fcmTokenRepository = mock(FcmTokenRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FcmSender fcmSender;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        fcmSender.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 중인 메시지를 최대 500건씩 나눠 보내고 토큰은 배치마다 한 번만 조회한다.")
+    void flushInBatches() {
+        // given
+        RecordingTransport transport = new RecordingTransport(delivery -> FcmSendResult.SENT);
+        FcmSenderProperties properties = properties();
+        // 500건이 쌓일 때 예약되는 즉시 전송이 직접 호출한 flush 와 배치를 나눠 갖지 않도록 끔
+        properties.setFlushOnFullBatch(false);
+        fcmSender = new FcmSender(transport, fcmTokenRepository, properties, meterRegistry);
+        givenTokensForEveryUser();
+        LongStream.rangeClosed(1, 1200).forEach(userId -> fcmSender.enqueue(FcmMessage.of(userId, "title", "body")));
+
+        // when
+        fcmSender.flush();
+
+        // then
+        assertThat(transport.batchSizes).containsExactly(500, 500, 200);
+        verify(fcmTokenRepository, times(3)).findAllByUserIdIn(anyCollection());
+        assertThat(meterRegistry.counter("fcm.sender", "result", "sent").count()).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("등록 해제된 토큰은 저장소에서 삭제한다.")
+    void pruneUnregisteredTokens() {
+        // given
+        RecordingTransport transport = new RecordingTransport(delivery ->
+                delivery.token().equals("token-2") ? FcmSendResult.UNREGISTERED : FcmSendResult.SENT);
+        fcmSender = sender(transport);
+        givenTokensForEveryUser();
+        fcmSender.enqueue(FcmMessage.of(1L, "title", "body"));
+        fcmSender.enqueue(FcmMessage.of(2L, "title", "body"));
+
+        // when
+        fcmSender.flush();
+
+        // then
+        verify(fcmTokenRepository).deleteAllByTokenIn(List.of("token-2"));
+    }
+
+    @Test
+    @DisplayName("일시적인 오류가 난 메시지만 백오프 후 다시 보낸다.")
+    void retryTransientFailures() throws InterruptedException {
+        // given
+        List<String> attempts = new CopyOnWriteArrayList<>();
+        RecordingTransport transport = new RecordingTransport(delivery -> {
+            attempts.add(delivery.token());
+            boolean firstTry = attempts.stream().filter(delivery.token()::equals).count() == 1;
+
+            return delivery.token().equals("token-1") && firstTry ? FcmSendResult.RETRYABLE : FcmSendResult.SENT;
+        });
+        fcmSender = sender(transport);
+        givenTokensForEveryUser();
+        fcmSender.enqueue(FcmMessage.of(1L, "title", "body"));
+        fcmSender.enqueue(FcmMessage.of(2L, "title", "body"));
+
+        // when
+        fcmSender.flush();
+
+        // then
+        for (int i = 0; i < 100 && attempts.size() < 3; i++) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        assertThat(attempts).containsExactly("token-1", "token-2", "token-1");
+        assertThat(meterRegistry.counter("fcm.sender", "result", "sent").count()).isEqualTo(2);
+    }
+
+    private FcmSender sender(FcmTransport transport) {
+        return new FcmSender(transport, fcmTokenRepository, properties(), meterRegistry);
+    }
+
+    private FcmSenderProperties properties() {
+        FcmSenderProperties properties = new FcmSenderProperties();
+        // 테스트에서는 주기 전송 대신 flush 를 직접 호출
+        properties.setFlushIntervalMillis(60_000);
+        properties.setBackoffMillis(10);
+
+        return properties;
+    }
+
+    private void givenTokensForEveryUser() {
+        given(fcmTokenRepository.findAllByUserIdIn(any())).willAnswer(invocation -> {
+            Collection<Long> userIds = invocation.getArgument(0);
+
+            return userIds.stream()
+                    .map(this::token)
+                    .toList();
+        });
+    }
+
+    private FcmToken token(Long userId) {
+        UserEntity user = mock(UserEntity.class);
+        given(user.getId()).willReturn(userId);
+
+        return new FcmToken(user, "token-" + userId);
+    }
+
+    private static class RecordingTransport implements FcmTransport {
+        private final Function<FcmDelivery, FcmSendResult> responder;
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        private RecordingTransport(Function<FcmDelivery, FcmSendResult> responder) {
+            this.responder = responder;
+        }
+
+        @Override
+        public synchronized List<FcmSendResult> sendEach(List<FcmDelivery> deliveries) {
+            batchSizes.add(deliveries.size());
+
+            return deliveries.stream()
+                    .map(responder)
+                    .toList();
+        }
+    }
+}
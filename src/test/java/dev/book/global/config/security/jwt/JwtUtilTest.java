@@ -0,0 +1,111 @@
+package dev.book.global.config.security.jwt;
+
+import dev.book.global.config.bean.JwtCacheProperties;
+import dev.book.global.config.security.service.refresh.RefreshTokenService;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class JwtUtilTest {
+    static final String SECRET = "growith-test-secret-key-for-hmac-sha256-signing";
+    static final String EMAIL = "test@test.com";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = jwtUtil(true, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시된 결과를 사용한다.")
+    void cachesVerifiedToken() {
+        // given
+        String token = token(SECRET, 60_000);
+
+        // when
+        String first = jwtUtil.validateToken(token);
+        String second = jwtUtil.validateToken(token);
+
+        // then
+        assertThat(first).isEqualTo(EMAIL);
+        assertThat(second).isEqualTo(EMAIL);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 캐시와 관계없이 거부한다.")
+    void rejectsForgedToken() {
+        // given
+        jwtUtil.validateToken(token(SECRET, 60_000));
+        String forged = token("another-secret-key-that-is-long-enough-for-hs256", 60_000);
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.validateToken(forged))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰이라도 만료되면 만료 예외가 발생한다.")
+    void rejectsExpiredCachedToken() throws InterruptedException {
+        // given
+        String token = token(SECRET, 1_500);
+        jwtUtil.validateToken(token);
+        Thread.sleep(2_000);
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.validateToken(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 서명을 검증한다.")
+    void validatesWithoutCache() {
+        // given
+        SimpleMeterRegistry uncachedRegistry = new SimpleMeterRegistry();
+        JwtUtil uncached = jwtUtil(false, uncachedRegistry);
+        String token = token(SECRET, 60_000);
+
+        // when & then
+        assertThat(uncached.validateToken(token)).isEqualTo(EMAIL);
+        assertThat(uncached.validateToken(token)).isEqualTo(EMAIL);
+        assertThat(uncachedRegistry.find("cache.gets").tag("cache", "jwt").functionCounters()).isEmpty();
+    }
+
+    static JwtUtil jwtUtil(boolean cacheEnabled, SimpleMeterRegistry meterRegistry) {
+        JwtCacheProperties properties = new JwtCacheProperties();
+        properties.setEnabled(cacheEnabled);
+        JwtUtil jwtUtil = new JwtUtil(mock(RefreshTokenService.class), properties, meterRegistry);
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        jwtUtil.init();
+
+        return jwtUtil;
+    }
+
+    static String token(String secret, long validMillis) {
+        Date now = new Date();
+
+        return Jwts.builder()
+                .setSubject(EMAIL)
+                .claim("auth", "")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + validMillis))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
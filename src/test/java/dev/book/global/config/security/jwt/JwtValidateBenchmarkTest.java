@@ -0,0 +1,55 @@
+package dev.book.global.config.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@Tag("benchmark")
+class JwtValidateBenchmarkTest {
+    private static final int TOKEN_COUNT = 100;
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    @DisplayName("같은 토큰을 반복 검증할 때 검증 캐시 사용 여부에 따른 처리량을 기록하고, 두 방식의 결과가 같다.")
+    void validateThroughput() {
+        // given
+        JwtUtil cached = JwtUtilTest.jwtUtil(true, new SimpleMeterRegistry());
+        JwtUtil uncached = JwtUtilTest.jwtUtil(false, new SimpleMeterRegistry());
+        List<String> tokens = IntStream.range(0, TOKEN_COUNT)
+                .mapToObj(i -> JwtUtilTest.token(JwtUtilTest.SECRET, 600_000L + i))
+                .toList();
+        run(cached, tokens, ITERATIONS / 10);
+        run(uncached, tokens, ITERATIONS / 10);
+
+        // when
+        long uncachedElapsed = run(uncached, tokens, ITERATIONS);
+        long cachedElapsed = run(cached, tokens, ITERATIONS);
+
+        // then
+        log.info("uncached: {} ops/sec, cached: {} ops/sec", opsPerSecond(uncachedElapsed), opsPerSecond(cachedElapsed));
+
+        tokens.forEach(token -> assertThat(cached.validateToken(token)).isEqualTo(uncached.validateToken(token)));
+    }
+
+    private long run(JwtUtil jwtUtil, List<String> tokens, int iterations) {
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            jwtUtil.validateToken(tokens.get(i % tokens.size()));
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    private long opsPerSecond(long elapsedNanos) {
+        return ITERATIONS * 1_000_000_000L / Math.max(elapsedNanos, 1);
+    }
+}
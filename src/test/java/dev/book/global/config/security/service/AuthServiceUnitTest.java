@@ -63,6 +63,9 @@ class AuthServiceUnitTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private AuthService authService;
 
@@ -95,7 +98,7 @@ class AuthServiceUnitTest {
         //then
         assertEquals(nickname, user.getNickname());
         assertThat(user.getUserCategory().size()).isEqualTo(1);
-        verify(refreshTokenService).saveAndUpdateRefreshToken(user, "refresh_token");
+        verify(jwtUtil).generateToken(any(), any());
     }
 
     @Test
@@ -116,11 +119,14 @@ class AuthServiceUnitTest {
     void logout() {
         //given
         given(userRepository.save(any(UserEntity.class))).willReturn(userDetails.user());
+        given(jwtUtil.getRefreshToken(request)).willReturn("refresh_token");
 
         //when
         authService.logout(request, response, userDetails);
 
+        verify(refreshTokenService).deleteRefreshToken("refresh_token");
         verify(jwtUtil).deleteAccessTokenAndRefreshToken(request, response);
+        verify(principalCache).invalidate(userDetails.getUsername());
     }
 
     @Test
@@ -142,7 +148,7 @@ class AuthServiceUnitTest {
         //then
         verify(jwtUtil).getRefreshToken(request);
         verify(jwtUtil).validateToken(refreshToken);
-        verify(jwtUtil).generateAccessToken(response, authentication);
+        verify(jwtUtil).rotateToken(response, authentication, refreshToken);
     }
 
     @Test
@@ -0,0 +1,79 @@
+package dev.book.global.config.security.service;
+
+import dev.book.global.config.bean.PrincipalCacheProperties;
+import dev.book.user.exception.UserErrorException;
+import dev.book.user.repository.UserRepository;
+import dev.book.util.UserBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CustomUserDetailsServiceTest {
+    private static final String EMAIL = "test@test.com";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PrincipalCache principalCache;
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(new PrincipalCacheProperties(), meterRegistry);
+        userDetailsService = new CustomUserDetailsService(userRepository, principalCache);
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 사용자는 캐시에서 꺼내고 적중 횟수를 기록한다.")
+    void cachesPrincipal() {
+        // given
+        given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(UserBuilder.of()));
+
+        // when
+        UserDetails first = userDetailsService.loadUserByUsername(EMAIL);
+        UserDetails second = userDetailsService.loadUserByUsername(EMAIL);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principal").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에서 지운 사용자는 다시 조회한다.")
+    void reloadsAfterInvalidate() {
+        // given
+        given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(UserBuilder.of()));
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        // when
+        principalCache.invalidate(EMAIL);
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        // then
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐시하지 않는다.")
+    void doesNotCacheMissingUser() {
+        // given
+        given(userRepository.findByEmail(EMAIL)).willReturn(Optional.empty(), Optional.of(UserBuilder.of()));
+
+        // when & then
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername(EMAIL))
+                .isInstanceOf(UserErrorException.class);
+        assertThat(userDetailsService.loadUserByUsername(EMAIL).getUsername()).isEqualTo(EMAIL);
+    }
+}
@@ -0,0 +1,102 @@
+package dev.book.global.config.security.service.refresh;
+
+import dev.book.global.config.security.exception.AuthErrorCode;
+import dev.book.global.config.security.exception.AuthException;
+import dev.book.global.config.security.repository.RefreshTokenRepository;
+import dev.book.global.config.security.util.TokenHashUtil;
+import dev.book.user.exception.UserErrorException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class RefreshTokenServiceTest {
+    private static final LocalDateTime EXPIRES_AT = LocalDateTime.now().plusDays(1);
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("토큰 원문 대신 해시를 세션과 함께 한 번에 저장한다.")
+    void saveRefreshToken() {
+        // given
+        given(refreshTokenRepository.upsert(anyString(), anyString(), anyString(), any())).willReturn(1);
+
+        // when
+        refreshTokenService.saveRefreshToken("test@test.com", "session", "token", EXPIRES_AT);
+
+        // then
+        verify(refreshTokenRepository).upsert("test@test.com", "session", TokenHashUtil.sha256("token"), EXPIRES_AT);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 유저의 토큰은 저장하지 않고 에러가 발생한다.")
+    void saveRefreshTokenWithoutUser() {
+        // given
+        given(refreshTokenRepository.upsert(anyString(), anyString(), anyString(), any())).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.saveRefreshToken("none@test.com", "session", "token", EXPIRES_AT))
+                .isInstanceOf(UserErrorException.class);
+    }
+
+    @Test
+    @DisplayName("현재 토큰이라면 새 토큰으로 교체한다.")
+    void rotateRefreshToken() {
+        // given
+        given(refreshTokenRepository.rotate(eq(TokenHashUtil.sha256("current")), eq(TokenHashUtil.sha256("next")), eq(EXPIRES_AT), any()))
+                .willReturn(1);
+
+        // when
+        refreshTokenService.rotateRefreshToken("current", "next", EXPIRES_AT);
+
+        // then
+        verify(refreshTokenRepository, never()).deleteByPreviousTokenHash(anyString());
+        assertThat(meterRegistry.counter("auth.refresh_token", "result", "rotated").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰이 다시 사용되면 세션을 끊고 에러가 발생한다.")
+    void detectReuse() {
+        // given
+        given(refreshTokenRepository.rotate(anyString(), anyString(), any(), any())).willReturn(0);
+        given(refreshTokenRepository.deleteByPreviousTokenHash(TokenHashUtil.sha256("stolen"))).willReturn(1);
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken("stolen", "next", EXPIRES_AT))
+                .isInstanceOf(AuthException.class)
+                .hasMessageContaining(AuthErrorCode.REUSED_REFRESH_TOKEN.getMessage());
+        assertThat(meterRegistry.counter("auth.refresh_token", "result", "reused").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장되지 않은 토큰이라면 에러가 발생한다.")
+    void rejectUnknownToken() {
+        // given
+        given(refreshTokenRepository.rotate(anyString(), anyString(), any(), any())).willReturn(0);
+        given(refreshTokenRepository.deleteByPreviousTokenHash(anyString())).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken("unknown", "next", EXPIRES_AT))
+                .isInstanceOf(AuthException.class)
+                .hasMessageContaining(AuthErrorCode.INVALID_JWT_TOKEN.getMessage());
+    }
+}
@@ -0,0 +1,126 @@
+package dev.book.global.event;
+
+import dev.book.global.config.bean.AsyncEventProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncEventBusTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AsyncEventBus eventBus;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        eventBus.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 타입의 이벤트는 발행 순서대로 작업 스레드에서 처리된다.")
+    void processesInOrderOffCallerThread() throws InterruptedException {
+        // given
+        eventBus = new AsyncEventBus(properties(10), meterRegistry);
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            int order = i;
+            eventBus.dispatch(String.class, "handler", () -> {
+                handled.add(order);
+                threads.add(Thread.currentThread().getName());
+            });
+        }
+
+        // then
+        assertThat(eventBus.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        assertThat(handled).containsExactly(0, 1, 2, 3, 4);
+        assertThat(threads).allMatch(name -> name.startsWith("domain-event-"));
+        assertThat(meterRegistry.counter("event.async.processed", "type", "String").count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 발행한 스레드에서 직접 처리하고 거절 횟수를 기록한다.")
+    void runsOnCallerWhenQueueIsFull() throws InterruptedException {
+        // given
+        eventBus = new AsyncEventBus(properties(1), meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        eventBus.dispatch(String.class, "blocking", () -> {
+            started.countDown();
+            release.await();
+        });
+        started.await(5, TimeUnit.SECONDS);
+        eventBus.dispatch(String.class, "queued", () -> {
+        });
+        String caller = Thread.currentThread().getName();
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        // when
+        eventBus.dispatch(String.class, "overflow", () -> threads.add(Thread.currentThread().getName()));
+        release.countDown();
+
+        // then
+        assertThat(eventBus.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        assertThat(threads).containsExactly(caller);
+        assertThat(meterRegistry.counter("event.async.rejected", "type", "String").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중 실패한 이벤트는 기록만 하고 다음 이벤트를 계속 처리한다.")
+    void continuesAfterFailure() throws InterruptedException {
+        // given
+        eventBus = new AsyncEventBus(properties(10), meterRegistry);
+        AtomicInteger handled = new AtomicInteger();
+
+        // when
+        eventBus.dispatch(Integer.class, "failing", () -> {
+            throw new IllegalStateException("fail");
+        });
+        eventBus.dispatch(Integer.class, "next", handled::incrementAndGet);
+
+        // then
+        assertThat(eventBus.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        assertThat(handled).hasValue(1);
+        assertThat(meterRegistry.counter("event.async.failed", "type", "Integer").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 충돌로 실패한 이벤트는 다시 처리한다.")
+    void retriesOnOptimisticLockFailure() throws InterruptedException {
+        // given
+        eventBus = new AsyncEventBus(properties(10), meterRegistry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        eventBus.dispatch(Long.class, "conflicting", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("IndividualAchievementStatus", 1L);
+            }
+        });
+
+        // then
+        assertThat(eventBus.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.counter("event.async.processed", "type", "Long").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("event.async.failed", "type", "Long").count()).isZero();
+    }
+
+    private AsyncEventProperties properties(int queueCapacity) {
+        AsyncEventProperties properties = new AsyncEventProperties();
+        properties.setWorkers(2);
+        properties.setQueueCapacity(queueCapacity);
+
+        return properties;
+    }
+}
@@ -0,0 +1,196 @@
+package dev.book.global.outbox.service;
+
+import dev.book.global.config.Firebase.exception.FcmTokenErrorCode;
+import dev.book.global.config.Firebase.exception.FcmTokenErrorException;
+import dev.book.global.outbox.entity.OutboxEvent;
+import dev.book.global.outbox.repository.OutboxEventRepository;
+import dev.book.global.outbox.type.OutboxEventType;
+import dev.book.global.outbox.type.OutboxStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxDispatcher outboxDispatcher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxEventRepository, outboxDispatcher, transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(outboxRelay, "maxBatches", 10);
+        ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxRelay, "backoffMillis", 1000L);
+        ReflectionTestUtils.setField(outboxRelay, "maxBackoffMillis", 5000L);
+        ReflectionTestUtils.setField(outboxRelay, "leaseSeconds", 30L);
+    }
+
+    @Test
+    @DisplayName("가져온 이벤트를 전송하면 전송 완료로 저장한다.")
+    void relayPublishes() throws Exception {
+        // given
+        OutboxEvent event = event();
+        givenClaimed(List.of(1L), List.of(event));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(outboxEventRepository).lease(eq(List.of(1L)), any());
+        verify(outboxDispatcher).dispatch(event);
+        verify(outboxEventRepository).updateIfLeased(eq(event), any());
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(event.getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("전송 결과는 lease 를 잡았을 때의 시각을 조건으로 기록한다.")
+    void publishWritesOnlyWhileLeased() throws Exception {
+        // given
+        OutboxEvent event = event();
+        LocalDateTime leaseUntil = event.getNextAttemptAt();
+        willThrow(new IllegalStateException("down")).given(outboxDispatcher).dispatch(event);
+
+        // when
+        outboxRelay.publish(event);
+
+        // then
+        verify(outboxEventRepository).updateIfLeased(event, leaseUntil);
+        verify(outboxEventRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("커밋 직후 빠른 경로도 lease 를 잡은 이벤트만 전송한다.")
+    void publishByKeysClaimsFirst() throws Exception {
+        // given
+        OutboxEvent event = event();
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(outboxEventRepository.findDueIdsByKeysForUpdate(eq(List.of("limit-warning:1")), any())).willReturn(List.of(1L));
+        given(outboxEventRepository.findAllById(List.of(1L))).willReturn(List.of(event));
+
+        // when
+        outboxRelay.publishByKeys(List.of("limit-warning:1"));
+
+        // then
+        verify(outboxEventRepository).lease(eq(List.of(1L)), any());
+        verify(outboxDispatcher).dispatch(event);
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("폴러가 이미 가져간 이벤트는 빠른 경로에서 다시 전송하지 않는다.")
+    void publishByKeysSkipsLeased() throws Exception {
+        // given
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(outboxEventRepository.findDueIdsByKeysForUpdate(any(), any())).willReturn(List.of());
+
+        // when
+        outboxRelay.publishByKeys(List.of("limit-warning:1"));
+
+        // then
+        verify(outboxEventRepository, never()).lease(any(), any());
+        verify(outboxDispatcher, never()).dispatch(any());
+    }
+
+    @Test
+    @DisplayName("일시적인 오류는 백오프 후 다시 시도하도록 남겨둔다.")
+    void retriesTransientFailure() throws Exception {
+        // given
+        OutboxEvent event = event();
+        willThrow(new FcmTokenErrorException(FcmTokenErrorCode.FCM_SEND_FAILED)).given(outboxDispatcher).dispatch(event);
+
+        // when
+        outboxRelay.publish(event);
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(meterRegistry.counter("outbox.relay", "result", "retried").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다시 시도해도 결과가 같은 오류는 바로 실패 처리한다.")
+    void failsClientError() throws Exception {
+        // given
+        OutboxEvent event = event();
+        willThrow(new FcmTokenErrorException(FcmTokenErrorCode.NOT_FOUND_FCM_TOKEN)).given(outboxDispatcher).dispatch(event);
+
+        // when
+        outboxRelay.publish(event);
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(event.getLastError()).isEqualTo(FcmTokenErrorCode.NOT_FOUND_FCM_TOKEN.getMessage());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 실패 처리한다.")
+    void failsAfterMaxAttempts() throws Exception {
+        // given
+        OutboxEvent event = event();
+        willThrow(new IllegalStateException("down")).given(outboxDispatcher).dispatch(event);
+
+        // when
+        outboxRelay.publish(event);
+        outboxRelay.publish(event);
+        outboxRelay.publish(event);
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(event.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("백오프는 시도할수록 두 배로 늘어나고 최대값을 넘지 않는다.")
+    void backoff() {
+        assertThat(outboxRelay.backoff(1)).isEqualTo(1000L);
+        assertThat(outboxRelay.backoff(2)).isEqualTo(2000L);
+        assertThat(outboxRelay.backoff(3)).isEqualTo(4000L);
+        assertThat(outboxRelay.backoff(10)).isEqualTo(5000L);
+    }
+
+    private void givenClaimed(List<Long> ids, List<OutboxEvent> events) {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(outboxEventRepository.findDueIdsForUpdate(any(), anyInt())).willReturn(ids);
+        given(outboxEventRepository.findAllById(ids)).willReturn(events);
+    }
+
+    private OutboxEvent event() {
+        return new OutboxEvent(OutboxEventType.LIMIT_WARNING_NOTIFICATION, "limit-warning:1",
+                "{\"userId\":1}", LocalDateTime.now());
+    }
+}
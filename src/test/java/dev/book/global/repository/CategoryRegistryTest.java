@@ -0,0 +1,101 @@
+package dev.book.global.repository;
+
+import dev.book.global.entity.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryRegistryTest {
+    @Mock
+    private CategoryRepository categoryRepository;
+    private CategoryRegistry categoryRegistry;
+
+    private final Category food = new Category("food", "식비");
+    private final Category cafe = new Category("cafe_snack", "카페 / 간식");
+
+    @BeforeEach
+    void setUp() {
+        categoryRegistry = new CategoryRegistry(categoryRepository, 60_000);
+    }
+
+    @Test
+    @DisplayName("적재 후에는 코드 조회에 DB 를 사용하지 않는다.")
+    void findWithoutQuery() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(food, cafe));
+        categoryRegistry.load();
+
+        // when
+        Optional<Category> byCode = categoryRegistry.findByCode("food");
+        Map<String, Category> batch = categoryRegistry.findAllByCodes(List.of("food", "cafe_snack"));
+
+        // then
+        assertThat(byCode).containsSame(food);
+        assertThat(batch).containsEntry("food", food).containsEntry("cafe_snack", cafe);
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("없는 코드는 한 번 다시 읽은 뒤에도 없으면 빈 값을 돌려준다.")
+    void reloadOnMiss() {
+        // given
+        categoryRegistry = new CategoryRegistry(categoryRepository, 0);
+        given(categoryRepository.findAll()).willReturn(List.of(food));
+        categoryRegistry.load();
+
+        // when
+        Optional<Category> result = categoryRegistry.findByCode("unknown");
+
+        // then
+        assertThat(result).isEmpty();
+        verify(categoryRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("적재 직후에는 없는 코드로 반복 조회해도 DB 를 다시 읽지 않는다.")
+    void missWithinIntervalSkipsReload() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(food));
+        categoryRegistry.load();
+
+        // when
+        Optional<Category> first = categoryRegistry.findByCode("unknown");
+        Optional<Category> second = categoryRegistry.findByCode("unknown");
+        Map<String, Category> batch = categoryRegistry.findAllByCodes(List.of("food", "unknown"));
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(batch).containsOnlyKeys("food");
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("무효화되면 다음 조회 때 새로 추가된 카테고리까지 다시 적재한다.")
+    void invalidate() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(food), List.of(food, cafe));
+        categoryRegistry.load();
+
+        // when
+        categoryRegistry.invalidate();
+        List<Category> result = categoryRegistry.findAll();
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(food, cafe);
+        verify(categoryRepository, times(2)).findAll();
+    }
+}
@@ -0,0 +1,61 @@
+package dev.book.global.sse.repository;
+
+import dev.book.global.sse.bean.EmitterStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SseEmitterRepositoryImplTest {
+    private final Map<Long, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private SseEmitterRepositoryImpl sseEmitterRepository;
+
+    @BeforeEach
+    void setUp() {
+        EmitterStorage emitterStorage = mock(EmitterStorage.class);
+        given(emitterStorage.emitters()).willReturn(emitters);
+        sseEmitterRepository = new SseEmitterRepositoryImpl(emitterStorage, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("유저 ID 가 다른 유저 ID 의 접두사여도 해당 유저의 emitter 만 조회한다.")
+    void findOnlyOwnEmitters() {
+        // given
+        SseEmitter mine = new SseEmitter();
+        sseEmitterRepository.save(1L, "1_100", mine);
+        sseEmitterRepository.save(12L, "12_100", new SseEmitter());
+
+        // when
+        Map<String, SseEmitter> found = sseEmitterRepository.findAllEmitterByUserId(1L);
+
+        // then
+        assertThat(found).containsOnlyKeys("1_100");
+        assertThat(found.get("1_100")).isSameAs(mine);
+    }
+
+    @Test
+    @DisplayName("유저의 마지막 emitter 를 삭제하면 유저 항목도 제거한다.")
+    void removeEmptyUser() {
+        // given
+        sseEmitterRepository.save(1L, "1_100", new SseEmitter());
+        sseEmitterRepository.save(1L, "1_200", new SseEmitter());
+
+        // when
+        sseEmitterRepository.deleteEmitterById(1L, "1_100");
+        boolean remainsAfterFirst = emitters.containsKey(1L);
+        sseEmitterRepository.deleteEmitterById(1L, "1_200");
+
+        // then
+        assertThat(remainsAfterFirst).isTrue();
+        assertThat(emitters).doesNotContainKey(1L);
+        assertThat(sseEmitterRepository.countEmitters()).isZero();
+    }
+}
@@ -0,0 +1,93 @@
+package dev.book.global.sse.repository;
+
+import dev.book.global.sse.dto.SseBufferedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseEventBufferTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Last-Event-ID 이후의 이벤트만 순서대로 돌려준다.")
+    void replayAfterLastEventId() {
+        // given
+        SseEventBuffer buffer = new SseEventBuffer(meterRegistry, 10, 600);
+        SseBufferedEvent first = buffer.append(1L, "ACHIEVEMENT", id -> "first");
+        SseBufferedEvent second = buffer.append(1L, "ACHIEVEMENT", id -> "second");
+        SseBufferedEvent third = buffer.append(1L, "ACHIEVEMENT", id -> "third");
+
+        // when
+        List<SseBufferedEvent> replayed = buffer.replayAfter(1L, first.id());
+
+        // then
+        assertThat(replayed).containsExactly(second, third);
+        assertThat(second.sequence()).isEqualTo(first.sequence() + 1);
+        assertThat(first.id()).isEqualTo("1_" + first.sequence());
+    }
+
+    @Test
+    @DisplayName("이벤트 데이터는 부여된 이벤트 ID 로 만들어진다.")
+    void dataUsesAssignedId() {
+        // given
+        SseEventBuffer buffer = new SseEventBuffer(meterRegistry, 10, 600);
+
+        // when
+        SseBufferedEvent event = buffer.append(1L, "ACHIEVEMENT", id -> "data:" + id);
+
+        // then
+        assertThat(event.data()).isEqualTo("data:" + event.id());
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래된 이벤트부터 밀어내고, 밀려난 이후 이벤트부터 돌려준다.")
+    void evictOldestOverCapacity() {
+        // given
+        SseEventBuffer buffer = new SseEventBuffer(meterRegistry, 2, 600);
+        SseBufferedEvent first = buffer.append(1L, "ACHIEVEMENT", id -> "first");
+        SseBufferedEvent second = buffer.append(1L, "ACHIEVEMENT", id -> "second");
+        SseBufferedEvent third = buffer.append(1L, "ACHIEVEMENT", id -> "third");
+
+        // when
+        List<SseBufferedEvent> replayed = buffer.replayAfter(1L, "1_" + (first.sequence() - 1));
+
+        // then
+        assertThat(replayed).containsExactly(second, third);
+        assertThat(buffer.bufferedCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("sse.replay.evicted", "reason", "capacity").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 이벤트는 스위퍼가 정리하고 빈 유저 항목도 제거한다.")
+    void sweepExpired() throws InterruptedException {
+        // given
+        SseEventBuffer buffer = new SseEventBuffer(meterRegistry, 10, 0);
+        SseBufferedEvent event = buffer.append(1L, "ACHIEVEMENT", id -> "expired");
+        TimeUnit.MILLISECONDS.sleep(5);
+
+        // when
+        buffer.sweep();
+
+        // then
+        assertThat(buffer.bufferedCount()).isZero();
+        assertThat(buffer.replayAfter(1L, "1_" + (event.sequence() - 1))).isEmpty();
+        assertThat(meterRegistry.get("sse.replay.users").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 유저의 이벤트나 형식이 맞지 않는 ID 는 재전송하지 않는다.")
+    void ignoreOtherUsersAndInvalidId() {
+        // given
+        SseEventBuffer buffer = new SseEventBuffer(meterRegistry, 10, 600);
+        SseBufferedEvent event = buffer.append(12L, "ACHIEVEMENT", id -> "other");
+
+        // when & then
+        assertThat(buffer.replayAfter(1L, "1_" + (event.sequence() - 1))).isEmpty();
+        assertThat(buffer.replayAfter(12L, "invalid")).isEmpty();
+    }
+}
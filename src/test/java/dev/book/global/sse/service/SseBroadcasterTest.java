@@ -0,0 +1,164 @@
+package dev.book.global.sse.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.book.global.config.bean.SseProperties;
+import dev.book.global.sse.repository.SseEmitterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class SseBroadcasterTest {
+    private final SseEmitterRepository sseEmitterRepository = mock(SseEmitterRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SseBroadcaster sseBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        SseProperties properties = new SseProperties();
+        properties.setBroadcastWorkers(2);
+        properties.setSendTimeoutMillis(200);
+        sseBroadcaster = new SseBroadcaster(sseEmitterRepository, new ObjectMapper(), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseBroadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("모든 연결에 같은 직렬화 결과를 보내고 호출한 스레드는 기다리지 않는다.")
+    void broadcastToEveryEmitter() throws IOException {
+        // given
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        givenEmitters(Map.of(1L, Map.of("1_1", first), 2L, Map.of("2_1", second)));
+
+        // when
+        sseBroadcaster.broadcast("TIP", Map.of("content", "팁"));
+
+        // then
+        verify(first, timeout(1000)).send(anySet());
+        verify(second, timeout(1000)).send(anySet());
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 연결은 저장소에서 삭제한다.")
+    void removeFailedEmitter() throws IOException {
+        // given
+        SseEmitter broken = mock(SseEmitter.class);
+        willThrow(new IOException("broken pipe")).given(broken).send(anySet());
+        givenEmitters(Map.of(1L, Map.of("1_1", broken)));
+
+        // when
+        sseBroadcaster.broadcast("TIP", "팁");
+
+        // then
+        verify(sseEmitterRepository, timeout(1000)).deleteEmitterById(1L, "1_1");
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 전송이 끝나지 않는 느린 연결은 끊고, 다음 브로드캐스트에서는 건너뛴다.")
+    void evictSlowEmitter() throws Exception {
+        // given
+        SseEmitter slow = mock(SseEmitter.class);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            release.await();
+
+            return null;
+        }).given(slow).send(anySet());
+        givenEmitters(Map.of(1L, Map.of("1_1", slow)));
+
+        // when
+        sseBroadcaster.broadcast("TIP", "first");
+        sseBroadcaster.broadcast("TIP", "second");
+
+        // then
+        verify(sseEmitterRepository, timeout(2000).atLeastOnce()).deleteEmitterById(1L, "1_1");
+        verify(slow, timeout(2000)).complete();
+        await(() -> meterRegistry.counter("sse.broadcast", "result", "skipped").count() == 1);
+        assertThat(meterRegistry.counter("sse.broadcast", "result", "evicted").count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("전송 스레드를 기다리느라 시작하지 못한 전송은 연결을 끊지 않고 이번 이벤트만 버린다.")
+    void dropQueuedDeliveryWithoutEvicting() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        SseEmitter slowFirst = blockingEmitter(release);
+        SseEmitter slowSecond = blockingEmitter(release);
+        SseEmitter queued = mock(SseEmitter.class);
+        Map<Long, Map<String, SseEmitter>> emitters = new LinkedHashMap<>();
+        emitters.put(1L, Map.of("1_1", slowFirst));
+        emitters.put(2L, Map.of("2_1", slowSecond));
+        emitters.put(3L, Map.of("3_1", queued));
+        givenEmitters(emitters);
+
+        // when
+        sseBroadcaster.broadcast("TIP", "팁");
+
+        // then
+        await(() -> meterRegistry.counter("sse.broadcast", "result", "dropped").count() == 1);
+        await(() -> meterRegistry.counter("sse.broadcast", "result", "evicted").count() == 2);
+        verify(sseEmitterRepository, never()).deleteEmitterById(3L, "3_1");
+        verify(queued, never()).complete();
+        verify(queued, never()).send(anySet());
+        release.countDown();
+    }
+
+    // 인터럽트에도 풀리지 않는 블로킹 쓰기를 흉내 내 전송 스레드를 계속 점유함
+    private SseEmitter blockingEmitter(CountDownLatch release) throws IOException {
+        SseEmitter emitter = mock(SseEmitter.class);
+        willAnswer(invocation -> {
+            while (true) {
+                try {
+                    release.await();
+
+                    return null;
+                } catch (InterruptedException ignored) {
+                }
+            }
+        }).given(emitter).send(anySet());
+
+        return emitter;
+    }
+
+    private void givenEmitters(Map<Long, Map<String, SseEmitter>> emitters) {
+        willAnswer(invocation -> {
+            BiConsumer<Long, Map<String, SseEmitter>> action = invocation.getArgument(0);
+            emitters.forEach(action);
+
+            return null;
+        }).given(sseEmitterRepository).forEachUser(any());
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 200 && !condition.getAsBoolean(); i++) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -1,23 +1,29 @@
 package dev.book.global.sse.service;
 
 import dev.book.achievement.dto.AchievementResponseDto;
+import dev.book.global.config.bean.SseProperties;
+import dev.book.global.sse.dto.SseBufferedEvent;
 import dev.book.global.sse.dto.response.SseAchievementResponse;
 import dev.book.global.sse.repository.SseEmitterRepository;
+import dev.book.global.sse.repository.SseEventBuffer;
 import dev.book.global.sse.type.SseType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -27,6 +33,15 @@ class SseServiceTest {
     @Mock
     SseEmitterRepository sseEmitterRepository;
 
+    @Mock
+    SseEventBuffer sseEventBuffer;
+
+    @Mock
+    SseBroadcaster sseBroadcaster;
+
+    @Spy
+    SseProperties sseProperties = new SseProperties();
+
     @InjectMocks
     SseService sseService;
 
@@ -38,12 +53,11 @@ class SseServiceTest {
         String lastEventId = "1_1";
 
         SseEmitter sseEmitter = mock(SseEmitter.class);
-        Map<String, Object> eventCache = Map.of(
-                "1_2", new SseAchievementResponse("1_2", "업적1", "내용", SseType.ACHIEVEMENT.name())
-        );
+        List<SseBufferedEvent> missedEvents = List.of(new SseBufferedEvent("1_2", 2L, SseType.ACHIEVEMENT.name(),
+                new SseAchievementResponse("1_2", "업적1", "내용", SseType.ACHIEVEMENT.name()), System.currentTimeMillis()));
 
-        given(sseEmitterRepository.save(any(), any())).willReturn(sseEmitter);
-        given(sseEmitterRepository.findAllEventCacheStartsWithUserId(String.valueOf(userId))).willReturn(eventCache);
+        given(sseEmitterRepository.save(any(), any(), any())).willReturn(sseEmitter);
+        given(sseEventBuffer.replayAfter(userId, lastEventId)).willReturn(missedEvents);
 
         //when
         SseEmitter result = sseService.subscribe(userId, lastEventId);
@@ -52,25 +66,25 @@ class SseServiceTest {
         assertThat(result).isNotNull();
         //eventCache의 event가 전송되었다면 발생했을 내역 체크
         verify(sseEmitter, times(2)).send(any(SseEmitter.SseEventBuilder.class)); //전송 로직 추가
-        verify(sseEmitterRepository).save(anyString(), any(SseEmitter.class));
-        verify(sseEmitterRepository).findAllEventCacheStartsWithUserId(String.valueOf(userId));
-        verify(sseEmitterRepository).deleteAllEventCacheStartsWithUserId(String.valueOf(userId));
+        verify(sseEmitterRepository).save(eq(userId), anyString(), any(SseEmitter.class));
+        verify(sseEventBuffer).replayAfter(userId, lastEventId);
     }
 
     @Test
-    @DisplayName("emitter가 없을 경우 eventCache에만 저장한다.")
+    @DisplayName("emitter가 없을 경우 재전송 버퍼에만 저장한다.")
     void sendWithNoEmitter() {
         //given
         Long userId = 1L;
         AchievementResponseDto achievementResponseDto = new AchievementResponseDto("업적1", "내용");
 
-        given(sseEmitterRepository.findAllEmitterStartsWithUserId(String.valueOf(userId))).willReturn(Map.of());
+        given(sseEventBuffer.append(eq(userId), anyString(), any())).willReturn(bufferedEvent());
+        given(sseEmitterRepository.findAllEmitterByUserId(userId)).willReturn(Map.of());
 
         //when
         sseService.sendAchievementToUser(userId, achievementResponseDto);
 
         //then
-        verify(sseEmitterRepository).saveEventCache(anyString(), any(SseAchievementResponse.class));
+        verify(sseEventBuffer).append(eq(userId), eq(SseType.ACHIEVEMENT.name()), any());
     }
 
     @Test
@@ -82,14 +96,39 @@ class SseServiceTest {
 
         SseEmitter sseEmitter = mock(SseEmitter.class);
         Map<String, SseEmitter> sseEmitterMap = Map.of("1_1", sseEmitter);
-        given(sseEmitterRepository.findAllEmitterStartsWithUserId(String.valueOf(userId))).willReturn(sseEmitterMap);
+        given(sseEventBuffer.append(eq(userId), anyString(), any())).willReturn(bufferedEvent());
+        given(sseEmitterRepository.findAllEmitterByUserId(userId)).willReturn(sseEmitterMap);
 
         //when
         sseService.sendAchievementToUser(userId, achievementResponseDto);
 
         //then
         verify(sseEmitter).send(any(SseEmitter.SseEventBuilder.class)); //전송 로직 추가
-        verify(sseEmitterRepository).saveEventCache(anyString(), any(SseAchievementResponse.class));
+        verify(sseEventBuffer).append(eq(userId), eq(SseType.ACHIEVEMENT.name()), any());
+    }
+
+    private SseBufferedEvent bufferedEvent() {
+        return new SseBufferedEvent("1_1", 1L, SseType.ACHIEVEMENT.name(),
+                new SseAchievementResponse("1_1", "업적1", "내용", SseType.ACHIEVEMENT.name()), System.currentTimeMillis());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("유저당 연결 수 상한에 도달하면 가장 오래된 연결을 끊고 새로 구독한다.")
+    void evictOldestEmitterOverCap() {
+        //given
+        Long userId = 1L;
+        sseProperties.setMaxEmittersPerUser(2);
+        SseEmitter oldest = mock(SseEmitter.class);
+        SseEmitter newer = mock(SseEmitter.class);
+        given(sseEmitterRepository.findAllEmitterByUserId(userId)).willReturn(Map.of("1_100", oldest, "1_200", newer));
+        given(sseEmitterRepository.save(any(), any(), any())).willReturn(mock(SseEmitter.class));
+
+        //when
+        sseService.subscribe(userId, "");
+
+        //then
+        verify(sseEmitterRepository).deleteEmitterById(userId, "1_100");
+        verify(oldest).complete();
+        verify(newer, never()).complete();
+    }
+}
@@ -0,0 +1,73 @@
+package dev.book.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@Tag("benchmark")
+class AesCryptoBenchmarkTest {
+    private static final int ITERATIONS = 20_000;
+    private static final String PLAIN_TEXT = "110-123-456789";
+
+    @Test
+    @DisplayName("매번 Cipher 와 키를 만드는 기존 방식과 재사용하는 방식의 암복호화 처리량을 비교한다.")
+    void encryptDecryptThroughput() throws Exception {
+        // given
+        AesCrypto crypto = new AesCrypto(AesCryptoTest.SECRET, AesCrypto.Legacy.CBC);
+        runPerCall(ITERATIONS / 10);
+        runReused(crypto, ITERATIONS / 10);
+
+        // when
+        long perCallElapsed = runPerCall(ITERATIONS);
+        long reusedElapsed = runReused(crypto, ITERATIONS);
+
+        // then
+        log.info("per-call CBC: {} ops/sec, reused GCM: {} ops/sec", opsPerSecond(perCallElapsed), opsPerSecond(reusedElapsed));
+
+        assertThat(crypto.decrypt(crypto.encrypt(PLAIN_TEXT))).isEqualTo(PLAIN_TEXT);
+    }
+
+    private long runReused(AesCrypto crypto, int iterations) throws Exception {
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            crypto.decrypt(crypto.encrypt(PLAIN_TEXT));
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    // 변경 전 AccountAESUtil 의 암복호화 방식
+    private long runPerCall(int iterations) throws Exception {
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+            SecretKeySpec secretKey = new SecretKeySpec(AesCryptoTest.SECRET.getBytes(), "AES");
+            byte[] iv = new byte[16];
+            new SecureRandom().nextBytes(iv);
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(iv));
+            String encrypted = Base64.getEncoder().encodeToString(cipher.doFinal(PLAIN_TEXT.getBytes()));
+
+            Cipher decryptCipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+            decryptCipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(AesCryptoTest.SECRET.getBytes(), "AES"), new IvParameterSpec(iv));
+            decryptCipher.doFinal(Base64.getDecoder().decode(encrypted));
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    private long opsPerSecond(long elapsedNanos) {
+        return ITERATIONS * 1_000_000_000L / Math.max(elapsedNanos, 1);
+    }
+}
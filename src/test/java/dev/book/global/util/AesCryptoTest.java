@@ -0,0 +1,118 @@
+package dev.book.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AesCryptoTest {
+    static final String SECRET = "abcdefghijklmnopqrstuvwxyzabcdef";
+
+    @Test
+    @DisplayName("새로 암호화한 값은 버전 접두사가 붙고 매번 다른 암호문이 만들어진다.")
+    void encryptWithGcm() throws Exception {
+        // given
+        AesCrypto crypto = new AesCrypto(SECRET, AesCrypto.Legacy.CBC);
+
+        // when
+        String first = crypto.encrypt("110-123-456789");
+        String second = crypto.encrypt("110-123-456789");
+
+        // then
+        assertThat(first).startsWith("v1:").isNotEqualTo(second);
+        assertThat(crypto.decrypt(first)).isEqualTo("110-123-456789");
+        assertThat(crypto.decrypt(second)).isEqualTo("110-123-456789");
+    }
+
+    @Test
+    @DisplayName("기존 CBC 방식으로 암호화된 값도 복호화한다.")
+    void decryptLegacyCbc() throws Exception {
+        // given
+        AesCrypto crypto = new AesCrypto(SECRET, AesCrypto.Legacy.CBC);
+        String legacy = legacyCbc("110-123-456789");
+
+        // when & then
+        assertThat(crypto.decrypt(legacy)).isEqualTo("110-123-456789");
+    }
+
+    @Test
+    @DisplayName("기존 ECB 방식으로 암호화된 값도 복호화한다.")
+    void decryptLegacyEcb() throws Exception {
+        // given
+        AesCrypto crypto = new AesCrypto(SECRET, AesCrypto.Legacy.ECB);
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(SECRET.getBytes(), "AES"));
+        String legacy = Base64.getEncoder().encodeToString(cipher.doFinal("{\"email\":\"test@test.com\"}".getBytes()));
+
+        // when & then
+        assertThat(crypto.decrypt(legacy)).isEqualTo("{\"email\":\"test@test.com\"}");
+    }
+
+    @Test
+    @DisplayName("변조된 암호문은 복호화하지 않는다.")
+    void rejectTampered() throws Exception {
+        // given
+        AesCrypto crypto = new AesCrypto(SECRET, AesCrypto.Legacy.CBC);
+        byte[] bytes = Base64.getDecoder().decode(crypto.encrypt("110-123-456789").substring(3));
+        bytes[bytes.length - 1] ^= 1;
+        String tampered = "v1:" + Base64.getEncoder().encodeToString(bytes);
+
+        // when & then
+        assertThatThrownBy(() -> crypto.decrypt(tampered))
+                .isInstanceOf(AEADBadTagException.class);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 사용해도 올바르게 암복호화한다.")
+    void concurrentUse() {
+        // given
+        AesCrypto crypto = new AesCrypto(SECRET, AesCrypto.Legacy.CBC);
+
+        // when
+        List<CompletableFuture<Boolean>> results = IntStream.range(0, 16)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        for (int j = 0; j < 500; j++) {
+                            String plain = "account-" + i + "-" + j;
+
+                            if (!crypto.decrypt(crypto.encrypt(plain)).equals(plain)) {
+                                return false;
+                            }
+                        }
+
+                        return true;
+                    } catch (Exception e) {
+                        return false;
+                    }
+                }))
+                .toList();
+
+        // then
+        assertThat(results).allMatch(CompletableFuture::join);
+    }
+
+    static String legacyCbc(String plainText) throws Exception {
+        byte[] iv = new byte[16];
+        new SecureRandom().nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(SECRET.getBytes(), "AES"), new IvParameterSpec(iv));
+        byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+        byte[] encryptedWithIv = new byte[iv.length + encrypted.length];
+        System.arraycopy(iv, 0, encryptedWithIv, 0, iv.length);
+        System.arraycopy(encrypted, 0, encryptedWithIv, iv.length, encrypted.length);
+
+        return Base64.getEncoder().encodeToString(encryptedWithIv);
+    }
+}
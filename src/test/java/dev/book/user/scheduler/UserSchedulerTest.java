@@ -0,0 +1,59 @@
+package dev.book.user.scheduler;
+
+import dev.book.achievement.achievement_user.repository.IndividualAchievementStatusRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class UserSchedulerTest {
+    private final IndividualAchievementStatusRepository repository = mock(IndividualAchievementStatusRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UserScheduler userScheduler;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        userScheduler = new UserScheduler(repository, transactionTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("id 범위를 나눠 로그인 현황을 갱신하고 처리 시간과 건수를 기록한다.")
+    void rolloverInChunks() {
+        // given
+        given(repository.findMaxId()).willReturn(25_000L);
+        given(repository.rolloverLogin(anyLong(), anyLong())).willReturn(10_000, 10_000, 5_000);
+
+        // when
+        userScheduler.setEveryUserIsLoginFalse();
+
+        // then
+        verify(repository).rolloverLogin(0, 10_000);
+        verify(repository).rolloverLogin(10_000, 20_000);
+        verify(repository).rolloverLogin(20_000, 25_000);
+        assertThat(meterRegistry.timer("user.login_rollover").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("user.login_rollover.rows").count()).isEqualTo(25_000);
+    }
+
+    @Test
+    @DisplayName("현황이 없으면 갱신하지 않는다.")
+    void skipWhenEmpty() {
+        // given
+        given(repository.findMaxId()).willReturn(0L);
+
+        // when
+        userScheduler.setEveryUserIsLoginFalse();
+
+        // then
+        verify(repository, never()).rolloverLogin(anyLong(), anyLong());
+    }
+}
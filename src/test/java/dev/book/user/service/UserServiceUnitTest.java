@@ -7,6 +7,7 @@ import dev.book.achievement.entity.Achievement;
 import dev.book.global.config.security.dto.CustomUserDetails;
 import dev.book.global.config.security.jwt.JwtAuthenticationToken;
 import dev.book.global.config.security.jwt.JwtUtil;
+import dev.book.global.config.security.service.PrincipalCache;
 import dev.book.global.config.security.service.refresh.RefreshTokenService;
 import dev.book.global.entity.Category;
 import dev.book.global.exception.category.CategoryException;
@@ -71,6 +72,9 @@ class UserServiceUnitTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     CustomUserDetails userDetails;
 
     @BeforeEach
@@ -233,14 +237,15 @@ class UserServiceUnitTest {
     }
 
     @Test
-    @DisplayName("유저의 챌린지 내용을 반환한다.")
+    @DisplayName("유저의 챌린지 내용은 캐시된 인증 정보가 아닌 DB 에서 조회해 반환한다.")
     void getUserChallenge(){
         //given
-        UserEntity user = userDetails.user();
+        UserEntity user = UserBuilder.of();
         user.plusSavings(10000L);
         user.plusFinishedChallenge();
         user.plusCompleteChallenge();
         user.plusParticipatingChallenge();
+        given(userRepository.findByEmail(userDetails.getUsername())).willReturn(Optional.of(user));
 
         //when
         UserChallengeInfoResponse userChallengeInfoResponse = userService.getUserChallengeInfo(userDetails);
@@ -31,7 +31,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -80,7 +79,7 @@ class UserFriendServiceUnitTest {
     @BeforeEach
     void setUp(){
         objectMapper.registerModule(new JavaTimeModule());
-        ReflectionTestUtils.setField(aesUtil, "SECRET_KEY", "abcdefghijklmnopqrstuvwxyzabcdef");
+        aesUtil.setSecretKey("abcdefghijklmnopqrstuvwxyzabcdef");
     }
 
     @Test